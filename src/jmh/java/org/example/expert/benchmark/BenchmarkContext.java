@@ -0,0 +1,36 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.ExpertApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Base64;
+
+// 벤치마크용 스프링 컨텍스트를 인메모리 H2 로 띄웁니다. (웹 서버, 외부 날씨 API 호출 없음)
+public final class BenchmarkContext {
+
+    public static final String SECRET_KEY = Base64.getEncoder()
+            .encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes());
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName, String... additionalProperties) {
+        return new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "jwt.secret.key=" + SECRET_KEY,
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "weather.refresh.initial-delay-ms=86400000",
+                        "todo.count.initial-delay-ms=86400000",
+                        // 시작할 때 BCrypt cost 를 측정하지 않도록 고정합니다. 측정 시간이 setup 에 섞이고 실행마다 cost 가 달라집니다.
+                        "password.hashing.cost=4"
+                )
+                .properties(additionalProperties)
+                .run();
+    }
+}
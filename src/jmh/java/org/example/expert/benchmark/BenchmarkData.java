@@ -0,0 +1,61 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크 공통 데이터: 유저 여러 명, 일정 다수, 댓글과 담당자가 몰린 hot todo 하나
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    // hot todo 의 id 를 반환합니다.
+    public static long seed(ConfigurableApplicationContext context, int userCount, int todoCount, int commentCount) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        TodoRepository todoRepository = context.getBean(TodoRepository.class);
+        CommentRepository commentRepository = context.getBean(CommentRepository.class);
+        ManagerRepository managerRepository = context.getBean(ManagerRepository.class);
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        return transaction.execute(status -> {
+            List<User> users = new ArrayList<>();
+            for (int i = 0; i < userCount; i++) {
+                users.add(new User("user" + i + "@example.com", "password", UserRole.USER));
+            }
+            userRepository.saveAll(users);
+
+            List<Todo> todos = new ArrayList<>();
+            for (int i = 0; i < todoCount; i++) {
+                todos.add(new Todo("title" + i, "contents" + i, "Sunny", users.get(i % userCount)));
+            }
+            todoRepository.saveAll(todos);
+
+            Todo hotTodo = todos.get(0);
+            List<Comment> comments = new ArrayList<>();
+            for (int i = 0; i < commentCount; i++) {
+                comments.add(new Comment("comment" + i, users.get(i % userCount), hotTodo));
+            }
+            commentRepository.saveAll(comments);
+
+            List<Manager> managers = new ArrayList<>();
+            for (int i = 1; i < userCount; i++) {
+                managers.add(new Manager(users.get(i), hotTodo));
+            }
+            managerRepository.saveAll(managers);
+            return hotTodo.getId();
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 한 트랜잭션에서 일정, 댓글, 담당자를 ROWS 개씩 저장할 때의 처리량을 비교합니다.
+// batchSize=1 은 JDBC batch 를 끈 경우, 50 은 pooled 시퀀스 + batch insert 를 쓰는 기본 설정입니다.
+// 결과는 엔티티 1건 기준(ops/s)으로 표시됩니다. 일정은 생성자가 담당자를 함께 저장하므로 insert 가 2건씩 발생합니다.
+// 인메모리 H2 에는 네트워크 왕복이 없어 batch 효과가 거의 드러나지 않으므로, 실제 비교는 MySQL 로 실행합니다.
+// ./gradlew jmh -Pjmh.includes=BulkInsertBenchmark -Pjmh.args="-jvmArgsAppend -Dspring.profiles.active=mysql"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BulkInsertBenchmark.ROWS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    static final int ROWS = 100;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transaction;
+    private TodoRepository todoRepository;
+    private CommentRepository commentRepository;
+    private ManagerRepository managerRepository;
+    private List<User> users;
+    private Todo todo;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("bulk_insert_benchmark_" + batchSize,
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        todoRepository = context.getBean(TodoRepository.class);
+        commentRepository = context.getBean(CommentRepository.class);
+        managerRepository = context.getBean(ManagerRepository.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        long hotTodoId = BenchmarkData.seed(context, ROWS, 1, 0);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        users = userRepository.findAll();
+        todo = todoRepository.findById(hotTodoId).orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Todo> createTodos() {
+        return transaction.execute(status -> {
+            List<Todo> todos = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                todos.add(new Todo("title", "contents", "Sunny", users.get(i)));
+            }
+            return todoRepository.saveAll(todos);
+        });
+    }
+
+    @Benchmark
+    public List<Comment> createComments() {
+        return transaction.execute(status -> {
+            List<Comment> comments = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                comments.add(new Comment("comment", users.get(i), todo));
+            }
+            return commentRepository.saveAll(comments);
+        });
+    }
+
+    @Benchmark
+    public List<Manager> createManagers() {
+        return transaction.execute(status -> {
+            List<Manager> managers = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                managers.add(new Manager(users.get(i), todo));
+            }
+            return managerRepository.saveAll(managers);
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.expert.benchmark;
+
+import io.jsonwebtoken.Claims;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.auth.revocation.TokenRevocationIndex;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private TokenRevocationIndex revocationIndex;
+    private String token;
+    private String revokedJti;
+
+    private static final String UUID_NOT_REVOKED = "5f0c7c8e-6a3b-4d2e-9a51-0b7f3c2d1e4a";
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        // 폐기 목록이 가득 찬 상태에서 매 요청의 폐기 확인 비용을 봅니다.
+        revocationIndex = new TokenRevocationIndex(100_000);
+        long expiresAt = System.currentTimeMillis() / 1000 + 3600;
+        for (int i = 0; i < 100_000; i++) {
+            revocationIndex.revokeToken(UUID.randomUUID().toString(), expiresAt);
+            revocationIndex.revokeTokensIssuedBefore(1_000_000L + i, expiresAt * 1000);
+        }
+        revokedJti = UUID.randomUUID().toString();
+        revocationIndex.revokeToken(revokedJti, expiresAt);
+        jwtUtil = new JwtUtil(revocationIndex);
+        Field secretKey = JwtUtil.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(jwtUtil, BenchmarkContext.SECRET_KEY);
+        jwtUtil.init();
+
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+    }
+
+    // 폐기되지 않은 jti: 대부분 Bloom filter 에서 끝납니다.
+    @Benchmark
+    public boolean revocationCheck_notRevoked() {
+        return revocationIndex.isRevoked(1L, 0L, UUID_NOT_REVOKED);
+    }
+
+    @Benchmark
+    public boolean revocationCheck_revoked() {
+        return revocationIndex.isRevoked(1L, 0L, revokedJti);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "user@example.com", UserRole.USER);
+    }
+
+    // 서명 검증과 JSON 파싱을 jjwt 로 수행하는 경우 (JwtUtil 이 발급하지 않은 형태의 토큰)
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    // jjwt 경로: jjwt 파싱 후 claims 를 AuthUser 값으로 다시 변환
+    @Benchmark
+    public AuthUser authUser_jjwt() {
+        return toAuthUser(jwtUtil.extractClaims(token));
+    }
+
+    // 현재 JwtFilter 경로: Hs256TokenVerifier 로 서명 검증 후 바로 AuthUser 로 읽음
+    @Benchmark
+    public AuthUser authUser_fastPath() {
+        return jwtUtil.verifyToken(token);
+    }
+
+    // 가상 스레드 모드(spring.threads.virtual.enabled=true)처럼 요청마다 새 가상 스레드에서 검증합니다.
+    // 스레드마다 Mac 과 버퍼를 새로 만들면 이 경우만 느려지므로, virtualThread_baseline(빈 작업)과의 차이를 봅니다.
+    @Benchmark
+    public AuthUser authUser_fastPath_virtualThread() throws InterruptedException {
+        AuthUser[] result = new AuthUser[1];
+        Thread.ofVirtual().start(() -> result[0] = jwtUtil.verifyToken(token)).join();
+        return result[0];
+    }
+
+    @Benchmark
+    public Object virtualThread_baseline() throws InterruptedException {
+        Object[] result = new Object[1];
+        Thread.ofVirtual().start(() -> result[0] = token).join();
+        return result[0];
+    }
+
+    private AuthUser toAuthUser(Claims claims) {
+        return new AuthUser(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                UserRole.valueOf(claims.get("userRole", String.class))
+        );
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// DB 없이 서비스 계층의 엔티티 → DTO 매핑 비용만 측정합니다.
+// 리포지토리는 미리 만들어 둔 엔티티를 돌려주는 동적 프록시로 대체합니다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private TodoService todoService;
+    private CommentService commentService;
+    private AuthUser authUser;
+    private CommentSaveRequest commentSaveRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        User user = new User("user@example.com", "password", UserRole.USER);
+        setField(user, User.class, "id", 1L);
+
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i <= PAGE_SIZE; i++) {
+            Todo todo = new Todo("title" + i, "contents" + i, "Sunny", user);
+            setField(todo, Todo.class, "id", (long) (PAGE_SIZE - i + 1));
+            todos.add(todo);
+        }
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 9, 1, 0, 0);
+        for (Todo todo : todos) {
+            setField(todo, todo.getClass().getSuperclass(), "modifiedAt", modifiedAt);
+        }
+        Todo hotTodo = todos.get(0);
+
+        TodoRepository todoRepository = stub(TodoRepository.class, Map.of(
+                "findFirstPageByCursor", args -> todos,
+                "findSliceByOrderByModifiedAtDesc", args -> new SliceImpl<>(todos.subList(0, PAGE_SIZE), PageRequest.of(0, PAGE_SIZE), true),
+                "findById", args -> Optional.of(hotTodo)
+        ));
+        CommentRepository commentRepository = stub(CommentRepository.class, Map.of(
+                "save", args -> args[0]
+        ));
+
+        todoService = new TodoService(todoRepository, null, null, null, null, null);
+        commentService = new CommentService(todoRepository, commentRepository, null);
+        authUser = new AuthUser(1L, "user@example.com", UserRole.USER);
+        commentSaveRequest = new CommentSaveRequest("contents");
+    }
+
+    @Benchmark
+    public CursorResponse<TodoResponse> todoService_getTodosByCursor() {
+        return todoService.getTodosByCursor(null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public SliceResponse<TodoResponse> todoService_getTodoSlice() {
+        return todoService.getTodoSlice(1, PAGE_SIZE, false);
+    }
+
+    @Benchmark
+    public CommentSaveResponse commentService_saveComment() {
+        return commentService.saveComment(authUser, 1L, commentSaveRequest);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            return answer.apply(args);
+        });
+    }
+
+    private static void setField(Object target, Class<?> owner, String name, Object value) throws ReflectiveOperationException {
+        Field field = owner.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.expert.benchmark;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHashingPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String RAW_PASSWORD = "Password1234";
+
+    // 저장된 해시의 cost 별 검증 비용
+    @Param({"4", "8", "10"})
+    public int cost;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = new PasswordEncoder(PasswordHashingPolicy.fixed(cost));
+        encodedPassword = BCrypt.withDefaults().hashToString(cost, RAW_PASSWORD.toCharArray());
+    }
+
+    // 정책 cost 로 새 해시를 만드는 비용 (회원가입, 비밀번호 변경, 로그인 시 재해싱)
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
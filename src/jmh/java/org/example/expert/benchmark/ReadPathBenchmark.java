@@ -0,0 +1,138 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 읽기 경로에서 엔티티 조회 후 수동 매핑하는 방식과 DTO 프로젝션 조회 방식을 비교합니다.
+// -prof gc 결과의 gc.alloc.rate.norm 으로 호출당 할당량 차이를 확인할 수 있습니다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    private static final int USER_COUNT = 50;
+    private static final int TODO_COUNT = 2_000;
+    private static final int COMMENT_COUNT = 500;
+    private static final int PAGE_SIZE = 50;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnlyTransaction;
+    private TodoRepository todoRepository;
+    private CommentRepository commentRepository;
+    private ManagerRepository managerRepository;
+    private long hotTodoId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("read_path_benchmark");
+        todoRepository = context.getBean(TodoRepository.class);
+        commentRepository = context.getBean(CommentRepository.class);
+        managerRepository = context.getBean(ManagerRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        hotTodoId = BenchmarkData.seed(context, USER_COUNT, TODO_COUNT, COMMENT_COUNT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TodoResponse> todoPage_entity() {
+        return readOnlyTransaction.execute(status ->
+                todoRepository.findAllByOrderByModifiedAtDesc(PageRequest.of(0, PAGE_SIZE)).map(todo -> new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt()
+                )));
+    }
+
+    @Benchmark
+    public Page<TodoResponse> todoPage_projection() {
+        return readOnlyTransaction.execute(status -> todoRepository.findTodoResponses(PageRequest.of(0, PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public TodoResponse todo_entity() {
+        return readOnlyTransaction.execute(status -> {
+            Todo todo = todoRepository.findByIdWithUser(hotTodoId).orElseThrow();
+            User user = todo.getUser();
+            return new TodoResponse(
+                    todo.getId(),
+                    todo.getTitle(),
+                    todo.getContents(),
+                    todo.getWeather(),
+                    new UserResponse(user.getId(), user.getEmail()),
+                    todo.getCreatedAt(),
+                    todo.getModifiedAt()
+            );
+        });
+    }
+
+    @Benchmark
+    public TodoResponse todo_projection() {
+        return readOnlyTransaction.execute(status -> todoRepository.findTodoResponseById(hotTodoId).orElseThrow());
+    }
+
+    @Benchmark
+    public List<CommentResponse> comments_entity() {
+        return readOnlyTransaction.execute(status -> {
+            List<CommentResponse> dtoList = new ArrayList<>();
+            for (Comment comment : commentRepository.findByTodoIdWithUser(hotTodoId)) {
+                User user = comment.getUser();
+                dtoList.add(new CommentResponse(comment.getId(), comment.getContents(), new UserResponse(user.getId(), user.getEmail())));
+            }
+            return dtoList;
+        });
+    }
+
+    @Benchmark
+    public List<CommentResponse> comments_projection() {
+        return readOnlyTransaction.execute(status -> commentRepository.findResponsesByTodoId(hotTodoId));
+    }
+
+    @Benchmark
+    public List<ManagerResponse> managers_entity() {
+        return readOnlyTransaction.execute(status -> {
+            List<ManagerResponse> dtoList = new ArrayList<>();
+            for (Manager manager : managerRepository.findByTodoIdWithUser(hotTodoId)) {
+                User user = manager.getUser();
+                dtoList.add(new ManagerResponse(manager.getId(), new UserResponse(user.getId(), user.getEmail())));
+            }
+            return dtoList;
+        });
+    }
+
+    @Benchmark
+    public List<ManagerResponse> managers_projection() {
+        return readOnlyTransaction.execute(status -> managerRepository.findResponsesByTodoId(hotTodoId));
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// H2 에서 목록 조회 쿼리별 비용을 비교합니다. (OFFSET + COUNT, Slice, 커서)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryQueryBenchmark {
+
+    private static final int TODO_COUNT = 20_000;
+    private static final int COMMENT_COUNT = 2_000;
+    private static final int PAGE_SIZE = 20;
+
+    // 0 이면 첫 페이지, 그 외에는 깊은 페이지 조회
+    @Param({"0", "500"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnlyTransaction;
+    private TodoRepository todoRepository;
+    private CommentRepository commentRepository;
+    private long hotTodoId;
+    private LocalDateTime cursorModifiedAt;
+    private Long cursorId;
+    private long commentCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("repository_query_benchmark");
+        todoRepository = context.getBean(TodoRepository.class);
+        commentRepository = context.getBean(CommentRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        hotTodoId = BenchmarkData.seed(context, 50, TODO_COUNT, COMMENT_COUNT);
+
+        // 깊은 페이지의 직전 행을 커서로 사용해 OFFSET 조회와 같은 위치를 읽도록 맞춥니다.
+        if (page > 0) {
+            List<Todo> previous = readOnlyTransaction.execute(status ->
+                    todoRepository.findFirstPageByCursor(Limit.of(page * PAGE_SIZE)));
+            Todo last = previous.get(previous.size() - 1);
+            cursorModifiedAt = last.getModifiedAt();
+            cursorId = last.getId();
+        }
+        List<CommentResponse> comments = readOnlyTransaction.execute(status ->
+                commentRepository.findResponsesByTodoId(hotTodoId));
+        commentCursor = page == 0 ? 0L : comments.get(Math.min(page, comments.size() - 1)).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TodoResponse> todos_offsetWithCount() {
+        return readOnlyTransaction.execute(status -> todoRepository.findTodoResponses(PageRequest.of(page, PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public Slice<Todo> todos_slice() {
+        return readOnlyTransaction.execute(status -> todoRepository.findSliceByOrderByModifiedAtDesc(PageRequest.of(page, PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public List<Todo> todos_cursor() {
+        return readOnlyTransaction.execute(status -> page == 0
+                ? todoRepository.findFirstPageByCursor(Limit.of(PAGE_SIZE + 1))
+                : todoRepository.findNextPageByCursor(cursorModifiedAt, cursorId, Limit.of(PAGE_SIZE + 1)));
+    }
+
+    @Benchmark
+    public List<CommentResponse> comments_cursor() {
+        return readOnlyTransaction.execute(status ->
+                commentRepository.findPageByTodoIdAfter(hotTodoId, commentCursor, Limit.of(PAGE_SIZE + 1)));
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.expert.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+// 부하 테스트 대상 API 호출. 2xx 가 아닌 응답은 예외로 처리해 오류로 집계합니다.
+public final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI baseUri;
+
+    public ApiClient(URI baseUri) {
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public String signup(String email, String password) {
+        return send("POST", "/auth/signup", null,
+                Map.of("email", email, "password", password, "userRole", "USER"))
+                .get("bearerToken").asText();
+    }
+
+    public String signin(String email, String password) {
+        return send("POST", "/auth/signin", null, Map.of("email", email, "password", password))
+                .get("bearerToken").asText();
+    }
+
+    public CreatedTodo createTodo(String bearerToken, String title, String contents) {
+        JsonNode todo = send("POST", "/todos", bearerToken, Map.of("title", title, "contents", contents));
+        return new CreatedTodo(todo.get("id").asLong(), todo.get("user").get("id").asLong(), todo.get("weather").asText());
+    }
+
+    public void getTodoSlice(String bearerToken) {
+        send("GET", "/todos/slice?page=1&size=10", bearerToken, null);
+    }
+
+    public void createComment(String bearerToken, long todoId, String contents) {
+        send("POST", "/todos/" + todoId + "/comments", bearerToken, Map.of("contents", contents));
+    }
+
+    public void getComments(String bearerToken, long todoId) {
+        send("GET", "/todos/" + todoId + "/comments", bearerToken, null);
+    }
+
+    public void assignManager(String bearerToken, long todoId, long managerUserId) {
+        send("POST", "/todos/" + todoId + "/managers", bearerToken, Map.of("managerUserId", managerUserId));
+    }
+
+    private JsonNode send(String method, String path, String bearerToken, Object body) {
+        try {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                    .timeout(REQUEST_TIMEOUT);
+            if (bearerToken != null) {
+                builder.header("Authorization", bearerToken);
+            }
+            if (body == null) {
+                builder.method(method, HttpRequest.BodyPublishers.noBody());
+            } else {
+                builder.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            }
+
+            HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException(method + " " + path + " 응답 코드: " + response.statusCode());
+            }
+            return response.body().length == 0 ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 일정 생성 응답 중 부하 시나리오에 필요한 값 (작성자 id 는 담당자 배정에, 날씨는 스텁 연결 확인에 사용)
+    public record CreatedTodo(long id, long userId, String weather) {
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.expert.load;
+
+import java.util.Arrays;
+
+// 요청별 응답 시간(ns)을 그대로 모아 정확한 백분위를 계산합니다. 워커 스레드마다 하나씩 사용하고 마지막에 합칩니다.
+public final class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+    private boolean sorted;
+
+    public void record(long latencyNanos) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        sorted = false;
+    }
+
+    public void recordError() {
+        errors++;
+    }
+
+    public void merge(LatencyRecorder other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+        sorted = false;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    // nearest-rank 방식의 백분위 (ms). 측정이 끝난 뒤 여러 백분위를 조회하므로 한 번만 정렬해 둡니다.
+    public double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(latencies, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return latencies[Math.min(Math.max(rank - 1, 0), count - 1)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.load;
+
+import java.time.Duration;
+import java.util.Map;
+
+public record LoadResult(
+        ThreadMode mode,
+        Duration duration,
+        Map<Operation, LatencyRecorder> recorders,
+        String seededWeather
+) {
+
+    public LatencyRecorder total() {
+        LatencyRecorder total = new LatencyRecorder();
+        recorders.values().forEach(total::merge);
+        return total;
+    }
+
+    public double throughput(LatencyRecorder recorder) {
+        return recorder.getCount() / (duration.toMillis() / 1000.0);
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.expert.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 유저와 일정을 미리 만든 뒤, concurrency 개의 워커가 각자 요청을 연속으로 보내는 closed-loop 부하를 겁니다.
+// 워밍업 구간의 결과는 버리고 측정 구간의 응답 시간만 집계합니다.
+public final class LoadRunner {
+
+    private static final String PASSWORD = "password1234";
+
+    private final ApiClient apiClient;
+    private final LoadTestOptions options;
+    // 회원가입 요청마다 새 이메일을 쓰기 위한 번호
+    private final AtomicLong signupSequence = new AtomicLong();
+
+    private String[] emails;
+    private String[] bearerTokens;
+    private long[] userIds;
+    private long[] todoIds;
+    private String seededWeather;
+
+    public LoadRunner(ApiClient apiClient, LoadTestOptions options) {
+        this.apiClient = apiClient;
+        this.options = options;
+    }
+
+    public LoadResult run(ThreadMode mode) throws InterruptedException {
+        seed();
+        runPhase(options.warmup());
+        return new LoadResult(mode, options.duration(), runPhase(options.duration()), seededWeather);
+    }
+
+    // 담당자 배정에 다른 유저가 필요하므로 최소 두 명을 만듭니다.
+    private void seed() {
+        int users = Math.max(options.users(), 2);
+        emails = new String[users];
+        bearerTokens = new String[users];
+        userIds = new long[users];
+        todoIds = new long[users];
+        for (int i = 0; i < users; i++) {
+            emails[i] = "load" + i + "@example.com";
+            bearerTokens[i] = apiClient.signup(emails[i], PASSWORD);
+            ApiClient.CreatedTodo todo = apiClient.createTodo(bearerTokens[i], "todo" + i, "contents" + i);
+            userIds[i] = todo.userId();
+            todoIds[i] = todo.id();
+            seededWeather = todo.weather();
+        }
+    }
+
+    private Map<Operation, LatencyRecorder> runPhase(Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+        try {
+            List<Future<Map<Operation, LatencyRecorder>>> futures = new ArrayList<>(options.concurrency());
+            for (int i = 0; i < options.concurrency(); i++) {
+                futures.add(workers.submit(() -> work(deadline)));
+            }
+
+            Map<Operation, LatencyRecorder> merged = newRecorders();
+            for (Future<Map<Operation, LatencyRecorder>> future : futures) {
+                future.get().forEach((operation, recorder) -> merged.get(operation).merge(recorder));
+            }
+            return merged;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("부하 워커가 실패했습니다.", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private Map<Operation, LatencyRecorder> work(long deadline) {
+        Map<Operation, LatencyRecorder> recorders = newRecorders();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            Operation operation = Operation.pick(random);
+            int user = random.nextInt(emails.length);
+            long todoId = todoIds[random.nextInt(todoIds.length)];
+
+            long start = System.nanoTime();
+            try {
+                execute(operation, user, todoId, random);
+                recorders.get(operation).record(System.nanoTime() - start);
+            } catch (RuntimeException e) {
+                recorders.get(operation).recordError();
+            }
+        }
+        return recorders;
+    }
+
+    private void execute(Operation operation, int user, long todoId, ThreadLocalRandom random) {
+        String bearerToken = bearerTokens[user];
+        switch (operation) {
+            case SIGNUP -> apiClient.signup("signup" + signupSequence.incrementAndGet() + "@example.com", PASSWORD);
+            case SIGNIN -> apiClient.signin(emails[user], PASSWORD);
+            case TODO_CREATE -> apiClient.createTodo(bearerToken, "title", "contents");
+            case TODO_LIST -> apiClient.getTodoSlice(bearerToken);
+            case COMMENT_CREATE -> apiClient.createComment(bearerToken, todoId, "comment");
+            case COMMENT_LIST -> apiClient.getComments(bearerToken, todoId);
+            // 자기 일정에 다른 유저를 담당자로 배정합니다.
+            case MANAGER_ASSIGN -> apiClient.assignManager(bearerToken, todoIds[user], userIds[otherUser(user, random)]);
+        }
+    }
+
+    private int otherUser(int user, ThreadLocalRandom random) {
+        int other = random.nextInt(emails.length - 1);
+        return other >= user ? other + 1 : other;
+    }
+
+    private static Map<Operation, LatencyRecorder> newRecorders() {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        return recorders;
+    }
+}
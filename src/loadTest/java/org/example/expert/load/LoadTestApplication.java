@@ -0,0 +1,56 @@
+package org.example.expert.load;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 같은 혼합 트래픽을 플랫폼 스레드 모드와 가상 스레드 모드에서 차례로 실행하고 결과를 비교합니다.
+// 모드마다 애플리케이션과 DB 를 새로 띄우므로 두 실행은 서로의 데이터에 영향을 주지 않습니다.
+// 날씨 API 스텁은 한 번만 띄워 두 모드가 함께 사용합니다.
+public class LoadTestApplication {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        System.out.printf("concurrency=%d, warmup=%ds, duration=%ds, users=%d, password-cost=%s%n",
+                options.concurrency(), options.warmup().toSeconds(), options.duration().toSeconds(), options.users(),
+                options.passwordCost() > 0 ? options.passwordCost() : "calibrated");
+
+        List<LoadResult> results = new ArrayList<>();
+        long weatherRequests;
+        try (WeatherStubServer weatherStub = WeatherStubServer.start()) {
+            for (ThreadMode mode : options.modes()) {
+                try (LoadTestServer server = LoadTestServer.start(mode, weatherStub.getBaseUri(), options.passwordCost())) {
+                    results.add(new LoadRunner(new ApiClient(server.getBaseUri()), options).run(mode));
+                }
+            }
+            weatherRequests = weatherStub.getRequestCount();
+        }
+
+        printSummary(results, weatherRequests);
+    }
+
+    private static void printSummary(List<LoadResult> results, long weatherRequests) {
+        System.out.printf("%n%-10s %-30s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "mode", "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (LoadResult result : results) {
+            result.recorders().forEach((operation, recorder) -> printRow(result, operation.getEndpoint(), recorder));
+            printRow(result, "TOTAL", result.total());
+        }
+
+        // 일정의 날씨가 기본값(Unknown)이 아니라 스텁의 값이면 WeatherClient 가 스텁을 호출한 것입니다.
+        System.out.printf("%nweather stub requests=%d%n", weatherRequests);
+        for (LoadResult result : results) {
+            System.out.printf("%-10s seeded todo weather=%s%n", result.mode(), result.seededWeather());
+        }
+    }
+
+    private static void printRow(LoadResult result, String endpoint, LatencyRecorder recorder) {
+        System.out.printf("%-10s %-30s %9d %7d %9.1f", result.mode(), endpoint,
+                recorder.getCount(), recorder.getErrors(), result.throughput(recorder));
+        for (double percentile : PERCENTILES) {
+            System.out.printf(" %9.2f", recorder.percentileMillis(percentile));
+        }
+        System.out.printf(" %9.2f%n", recorder.percentileMillis(100));
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.expert.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+// --concurrency 64 --warmup 5 --duration 20 --users 50 --modes platform,virtual --password-cost 0
+public record LoadTestOptions(
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        int users,
+        List<ThreadMode> modes,
+        int passwordCost
+) {
+
+    public static LoadTestOptions parse(String[] args) {
+        int concurrency = 64;
+        Duration warmup = Duration.ofSeconds(5);
+        Duration duration = Duration.ofSeconds(20);
+        int users = 50;
+        List<ThreadMode> modes = List.of(ThreadMode.values());
+        int passwordCost = 0;
+
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException(args[i] + " 옵션의 값이 없습니다.");
+            }
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--concurrency" -> concurrency = Integer.parseInt(value);
+                case "--warmup" -> warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "--duration" -> duration = Duration.ofSeconds(Long.parseLong(value));
+                case "--users" -> users = Integer.parseInt(value);
+                case "--modes" -> modes = Arrays.stream(value.split(","))
+                        .map(mode -> ThreadMode.valueOf(mode.trim().toUpperCase()))
+                        .toList();
+                case "--password-cost" -> passwordCost = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("알 수 없는 옵션입니다: " + args[i]);
+            }
+        }
+        return new LoadTestOptions(concurrency, warmup, duration, users, modes, passwordCost);
+    }
+}
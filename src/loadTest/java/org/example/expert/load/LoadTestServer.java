@@ -0,0 +1,60 @@
+package org.example.expert.load;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.client.WeatherProvider;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.Base64;
+
+// 임의 포트의 내장 Tomcat 과 인메모리 H2 로 애플리케이션을 띄웁니다.
+// 날씨 API 는 로컬 스텁(WeatherStubServer)을 바라보게 하고, 관리 포트는 사용하지 않습니다.
+// 날씨는 스케줄러를 기다리지 않고 시작 직후 한 번 불러와 첫 일정부터 스텁의 날씨가 들어가도록 합니다.
+public final class LoadTestServer implements AutoCloseable {
+
+    private static final String SECRET_KEY = Base64.getEncoder()
+            .encodeToString("load-test-secret-key-load-test-secret-key".getBytes());
+
+    private final ConfigurableApplicationContext context;
+    private final URI baseUri;
+
+    private LoadTestServer(ConfigurableApplicationContext context, URI baseUri) {
+        this.context = context;
+        this.baseUri = baseUri;
+    }
+
+    public static LoadTestServer start(ThreadMode mode, URI weatherBaseUri, int passwordCost) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ExpertApplication.class)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "server.port=0",
+                        "management.server.port=-1",
+                        "jwt.secret.key=" + SECRET_KEY,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode.name().toLowerCase() + ";DB_CLOSE_DELAY=-1",
+                        "spring.threads.virtual.enabled=" + mode.isVirtualThreadsEnabled(),
+                        "weather.api.base-url=" + weatherBaseUri,
+                        "weather.refresh.initial-delay-ms=86400000",
+                        "todo.count.initial-delay-ms=86400000",
+                        // 0 이면 운영과 같이 시작 시 측정한 BCrypt cost 를 사용합니다.
+                        "password.hashing.cost=" + passwordCost
+                )
+                .run();
+        context.getBean(WeatherProvider.class).refresh();
+
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        return new LoadTestServer(context, URI.create("http://localhost:" + port));
+    }
+
+    public URI getBaseUri() {
+        return baseUri;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.expert.load;
+
+import java.util.Random;
+
+// 혼합 트래픽 구성. 가중치는 실제 요청 비율(조회 위주)을 흉내 냅니다.
+public enum Operation {
+    SIGNUP(3, "POST /auth/signup"),
+    SIGNIN(7, "POST /auth/signin"),
+    TODO_CREATE(10, "POST /todos"),
+    TODO_LIST(27, "GET /todos/slice"),
+    COMMENT_CREATE(13, "POST /todos/{todoId}/comments"),
+    COMMENT_LIST(30, "GET /todos/{todoId}/comments"),
+    MANAGER_ASSIGN(10, "POST /todos/{todoId}/managers");
+
+    private static final Operation[] VALUES = values();
+    private static final int TOTAL_WEIGHT = 100;
+
+    private final int weight;
+    private final String endpoint;
+
+    Operation(int weight, String endpoint) {
+        this.weight = weight;
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public static Operation pick(Random random) {
+        int point = random.nextInt(TOTAL_WEIGHT);
+        for (Operation operation : VALUES) {
+            point -= operation.weight;
+            if (point < 0) {
+                return operation;
+            }
+        }
+        return VALUES[VALUES.length - 1];
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.load;
+
+// 비교 대상 실행 모드. spring.threads.virtual.enabled 값으로 전환합니다.
+public enum ThreadMode {
+    PLATFORM(false),
+    VIRTUAL(true);
+
+    private final boolean virtualThreadsEnabled;
+
+    ThreadMode(boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+    }
+
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+}
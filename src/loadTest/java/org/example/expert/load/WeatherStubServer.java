@@ -0,0 +1,77 @@
+package org.example.expert.load;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+// WeatherClient 가 호출하는 외부 날씨 API(/f-api/weather.json)를 대신하는 로컬 HTTP 서버입니다.
+// 1년치(윤년 기준 366일) 날씨를 미리 JSON 으로 만들어 두고, 요청마다 같은 응답을 돌려줍니다.
+public final class WeatherStubServer implements AutoCloseable {
+
+    private static final String PATH = "/f-api/weather.json";
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy"};
+
+    private final HttpServer server;
+    private final AtomicLong requests = new AtomicLong();
+
+    private WeatherStubServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static WeatherStubServer start() {
+        byte[] body = buildBody();
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            WeatherStubServer stub = new WeatherStubServer(server);
+            server.createContext(PATH, exchange -> {
+                stub.requests.incrementAndGet();
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // WeatherClient 의 weather.api.base-url 로 넘길 주소
+    public URI getBaseUri() {
+        return URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static byte[] buildBody() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        StringBuilder json = new StringBuilder("[");
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 366; i++, date = date.plusDays(1)) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"date\":\"").append(date.format(formatter))
+                    .append("\",\"weather\":\"").append(WEATHERS[i % WEATHERS.length]).append("\"}");
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.expert.aop;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.annotation.Pointcut;
+import org.example.expert.config.JwtFilter;
+import org.example.expert.domain.audit.recorder.AdminAuditRecorder;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+// @AdminAudit 이 붙은 컨트롤러(또는 메서드) 호출 시 요청한 사용자, HTTP 메서드, URL, 시각을 기록합니다.
+// 저장은 AdminAuditRecorder 의 writer 스레드가 비동기로 처리하므로 요청 스레드에서는 I/O 가 일어나지 않습니다.
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class AdminAuditAspect {
+
+    private final AdminAuditRecorder adminAuditRecorder;
+
+    // Pointcut
+    @Pointcut("@within(org.example.expert.domain.common.annotation.AdminAudit) " +
+            "|| @annotation(org.example.expert.domain.common.annotation.AdminAudit)")
+    public void adminAudit() {}
+
+    // Advice
+    @Before("adminAudit()")
+    public void recordAdminAccess() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletRequestAttributes)) {
+            return;
+        }
+
+        // JwtFilter 가 넣어 둔 AuthUser 와 컨테이너가 이미 만들어 둔 문자열만 참조합니다.
+        HttpServletRequest request = servletRequestAttributes.getRequest();
+        AuthUser authUser = (AuthUser) request.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE);
+        adminAuditRecorder.record(
+                authUser == null ? null : authUser.getId(),
+                request.getMethod(),
+                request.getRequestURI()
+        );
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// 서비스, 리포지토리, JWT 검증, 날씨 API 호출 시간을 Micrometer 타이머로 기록합니다.
+// 엔드포인트별 시간은 Spring Boot 가 기본으로 제공하는 http.server.requests 로 수집됩니다.
+// BCrypt 해싱/검증 시간은 PasswordEncoder 가 cost 태그와 함께 password.hashing.duration 으로 직접 기록합니다.
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    // 성공 호출은 매번 Timer 를 새로 조회하지 않도록 메서드별로 캐시합니다.
+    private final MeterCache<Timer> serviceTimers = new MeterCache<>(joinPoint -> timer("app.service", joinPoint, "none"));
+    private final MeterCache<Timer> repositoryTimers = new MeterCache<>(joinPoint -> timer("app.repository", joinPoint, "none"));
+    private final MeterCache<Timer> jwtVerificationTimers = new MeterCache<>(joinPoint -> timer("app.jwt.verify", joinPoint, "none"));
+    private final MeterCache<Timer> weatherClientTimers = new MeterCache<>(joinPoint -> timer("app.weather.client", joinPoint, "none"));
+    private final MeterCache<DistributionSummary> rowSummaries = new MeterCache<>(this::rowSummary);
+
+    // Pointcut
+    @Pointcut("within(org.example.expert.domain..service..*)")
+    public void service() {}
+
+    // 리포지토리 빈은 Spring Data 가 만든 프록시라 within(패키지) 로는 잡히지 않으므로, 프록시가 구현한 Repository 타입으로 고릅니다.
+    @Pointcut("execution(public * *(..)) && this(org.springframework.data.repository.Repository)")
+    public void repository() {}
+
+    @Pointcut("execution(* org.example.expert.config.JwtUtil.verifyToken(..)) || execution(* org.example.expert.config.JwtUtil.extractClaims(..))")
+    public void jwtVerification() {}
+
+    @Pointcut("execution(* org.example.expert.client.WeatherClient.getWeathersByDate(..))")
+    public void weatherClient() {}
+
+    // Advice
+    @Around("service()")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("app.service", serviceTimers, joinPoint);
+    }
+
+    @Around("repository()")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = time("app.repository", repositoryTimers, joinPoint);
+        recordRows(joinPoint, result);
+        return result;
+    }
+
+    @Around("jwtVerification()")
+    public Object timeJwtVerification(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("app.jwt.verify", jwtVerificationTimers, joinPoint);
+    }
+
+    @Around("weatherClient()")
+    public Object timeWeatherClient(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("app.weather.client", weatherClientTimers, joinPoint);
+    }
+
+    private Object time(String metricName, MeterCache<Timer> timers, ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            timers.get(joinPoint).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timer(metricName, joinPoint, e.getClass().getSimpleName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(String metricName, ProceedingJoinPoint joinPoint, String exception) {
+        return Timer.builder(metricName)
+                .tag("class", getClassName(joinPoint))
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+
+    private void recordRows(ProceedingJoinPoint joinPoint, Object result) {
+        long rows;
+        if (result instanceof Collection<?> collection) {
+            rows = collection.size();
+        } else if (result instanceof Slice<?> slice) {
+            rows = slice.getNumberOfElements();
+        } else if (result instanceof Optional<?> optional) {
+            rows = optional.isPresent() ? 1 : 0;
+        } else {
+            return;
+        }
+
+        rowSummaries.get(joinPoint).record(rows);
+    }
+
+    private DistributionSummary rowSummary(ProceedingJoinPoint joinPoint) {
+        return DistributionSummary.builder("app.repository.rows")
+                .tag("class", getClassName(joinPoint))
+                .tag("method", joinPoint.getSignature().getName())
+                .register(meterRegistry);
+    }
+
+    // 리포지토리는 프록시 클래스 대신 선언한 인터페이스 이름(TodoRepository 등)을 사용합니다.
+    private String getClassName(ProceedingJoinPoint joinPoint) {
+        Class<?> proxyClass = joinPoint.getThis().getClass();
+        for (Class<?> type : proxyClass.getInterfaces()) {
+            if (type.getName().startsWith("org.example.expert")) {
+                return type.getSimpleName();
+            }
+        }
+        return ClassUtils.getUserClass(proxyClass).getSimpleName();
+    }
+
+    // 미터를 프록시 클래스, 메서드별로 한 번만 만들고, 호출마다 키 객체를 만들지 않고 찾습니다.
+    // 리포지토리는 save 처럼 여러 프록시가 같은 Method 를 공유하므로 프록시 클래스로 먼저 나눕니다.
+    private static final class MeterCache<M> {
+
+        private final Function<ProceedingJoinPoint, M> factory;
+        private final ClassValue<Map<Method, M>> metersByClass = new ClassValue<>() {
+            @Override
+            protected Map<Method, M> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+        private MeterCache(Function<ProceedingJoinPoint, M> factory) {
+            this.factory = factory;
+        }
+
+        private M get(ProceedingJoinPoint joinPoint) {
+            Map<Method, M> meters = metersByClass.get(joinPoint.getThis().getClass());
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            M meter = meters.get(method);
+            if (meter == null) {
+                meter = meters.computeIfAbsent(method, key -> factory.apply(joinPoint));
+            }
+            return meter;
+        }
+    }
+}
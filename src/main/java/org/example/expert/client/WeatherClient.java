@@ -1,30 +1,82 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
 
 @Component
 public class WeatherClient {
 
     private final RestTemplate restTemplate;
+    private final URI weatherApiUri;
+    private final CircuitBreaker circuitBreaker;
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter rejectedCounter;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            MeterRegistry meterRegistry,
+            @Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.api.connect-timeout-ms:1000}") long connectTimeoutMillis,
+            @Value("${weather.api.read-timeout-ms:2000}") long readTimeoutMillis,
+            @Value("${weather.api.circuit-breaker.failure-threshold:3}") int failureThreshold,
+            @Value("${weather.api.circuit-breaker.open-duration-ms:60000}") long openDurationMillis,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled
+    ) {
+        this.restTemplate = builder
+                .requestFactory(() -> createRequestFactory(connectTimeoutMillis, readTimeoutMillis, virtualThreadsEnabled))
+                .build();
+        this.weatherApiUri = buildWeatherApiUri(baseUrl);
+        this.circuitBreaker = new CircuitBreaker("날씨 API", failureThreshold, Duration.ofMillis(openDurationMillis));
+
+        Gauge.builder("weather.client.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("0: CLOSED, 1: OPEN, 2: HALF_OPEN")
+                .register(meterRegistry);
+        this.successCounter = meterRegistry.counter("weather.client.calls", "outcome", "success");
+        this.failureCounter = meterRegistry.counter("weather.client.calls", "outcome", "failure");
+        this.rejectedCounter = meterRegistry.counter("weather.client.calls", "outcome", "rejected");
+    }
+
+    // 날씨 데이터 전체를 날짜(MM-dd)를 키로 하는 Map 으로 반환합니다.
+    public Map<String, String> getWeathersByDate() {
+        try {
+            Map<String, String> weatherByDate = circuitBreaker.execute(this::fetchWeathersByDate);
+            successCounter.increment();
+            return weatherByDate;
+        } catch (CircuitBreaker.CircuitBreakerOpenException e) {
+            rejectedCounter.increment();
+            throw e;
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            throw e;
+        }
     }
 
-    public String getTodayWeather() {
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private Map<String, String> fetchWeathersByDate() {
         ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+                restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
@@ -35,29 +87,38 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-
-        String today = getCurrentDate();
-
+        Map<String, String> weatherByDate = new HashMap<>(weatherArray.length * 2);
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
-            }
+            weatherByDate.put(weatherDto.getDate(), weatherDto.getWeather());
+        }
+        return weatherByDate;
+    }
+
+    // 외부 API 가 느려져도 호출 스레드가 무한정 묶이지 않도록 타임아웃을 지정합니다.
+    // JDK HttpClient 는 블로킹 구간에서 가상 스레드를 고정(pinning)하지 않으므로, 가상 스레드 모드에서는
+    // 응답 처리용 내부 executor 도 가상 스레드로 맞춥니다.
+    private static JdkClientHttpRequestFactory createRequestFactory(
+            long connectTimeoutMillis,
+            long readTimeoutMillis,
+            boolean virtualThreadsEnabled
+    ) {
+        HttpClient.Builder httpClientBuilder = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis));
+        if (virtualThreadsEnabled) {
+            httpClientBuilder.executor(Executors.newVirtualThreadPerTaskExecutor());
         }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClientBuilder.build());
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        return requestFactory;
     }
 
-    private URI buildWeatherApiUri() {
+    private URI buildWeatherApiUri(String baseUrl) {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
-
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
-    }
 }
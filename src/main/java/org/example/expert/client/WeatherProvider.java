@@ -0,0 +1,55 @@
+package org.example.expert.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+// 날씨 데이터를 날짜별 Map 으로 메모리에 보관하고 백그라운드에서 갱신합니다.
+// 일정 생성 요청은 외부 API 를 호출하지 않고 캐시된 값만 조회합니다.
+// 갱신에 실패하면 마지막으로 성공한 데이터를, 데이터가 전혀 없으면 기본값을 사용합니다.
+@Slf4j
+@Component
+public class WeatherProvider {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
+    private final WeatherClient weatherClient;
+    private final String fallbackWeather;
+
+    private volatile Map<String, String> weatherByDate = Map.of();
+
+    public WeatherProvider(
+            WeatherClient weatherClient,
+            @Value("${weather.fallback:Unknown}") String fallbackWeather
+    ) {
+        this.weatherClient = weatherClient;
+        this.fallbackWeather = fallbackWeather;
+    }
+
+    public String getTodayWeather() {
+        return weatherByDate.getOrDefault(getCurrentDate(), fallbackWeather);
+    }
+
+    // 애플리케이션 시작 직후 한 번 불러오고 이후 주기적으로 갱신합니다.
+    @Scheduled(
+            initialDelayString = "${weather.refresh.initial-delay-ms:0}",
+            fixedDelayString = "${weather.refresh.interval-ms:3600000}"
+    )
+    public void refresh() {
+        try {
+            weatherByDate = Map.copyOf(weatherClient.getWeathersByDate());
+        } catch (RuntimeException e) {
+            // 갱신에 실패하면 기존 데이터를 계속 사용합니다.
+            log.warn("날씨 데이터 갱신에 실패했습니다.", e);
+        }
+    }
+
+    private String getCurrentDate() {
+        return LocalDate.now().format(DATE_FORMATTER);
+    }
+}
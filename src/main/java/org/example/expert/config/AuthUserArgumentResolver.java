@@ -1,21 +1,35 @@
 package org.example.expert.config;
 
-import jakarta.servlet.http.HttpServletRequest;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
-import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.core.MethodParameter;
 import org.springframework.lang.Nullable;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
 
+    // 파라미터의 어노테이션/타입은 바뀌지 않으므로 검사 결과를 파라미터별로 캐시합니다.
+    private final Map<MethodParameter, Boolean> supportedParameters = new ConcurrentHashMap<>();
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
+        Boolean supported = supportedParameters.get(parameter);
+        if (supported == null) {
+            supported = checkParameter(parameter);
+            supportedParameters.put(parameter, supported);
+        }
+        return supported;
+    }
+
+    private boolean checkParameter(MethodParameter parameter) {
         boolean hasAuthAnnotation = parameter.getParameterAnnotation(Auth.class) != null;
         boolean isAuthUserType = parameter.getParameterType().equals(AuthUser.class);
 
@@ -34,13 +48,11 @@ public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
             NativeWebRequest webRequest,
             @Nullable WebDataBinderFactory binderFactory
     ) {
-        HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
-
-        // JwtFilter 에서 set 한 userId, email, userRole 값을 가져옴
-        Long userId = (Long) request.getAttribute("userId");
-        String email = (String) request.getAttribute("email");
-        UserRole userRole = UserRole.of((String) request.getAttribute("userRole"));
-
-        return new AuthUser(userId, email, userRole);
+        // JwtFilter 에서 set 한 AuthUser 를 그대로 사용 (불변 객체이므로 여러 파라미터에서 공유해도 안전합니다.)
+        Object authUser = webRequest.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (authUser == null) {
+            throw new AuthException("인증 정보가 없습니다.");
+        }
+        return authUser;
     }
 }
@@ -0,0 +1,469 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.expert.domain.auth.revocation.TokenRevocationIndex;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.user.enums.UserRole;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// JwtUtil 이 발급하는 고정된 형태의 HS256 토큰만 jjwt 의 범용 파서 없이 검증합니다.
+// - 헤더: {"alg":"HS256"}
+// - claims: sub(숫자 문자열), email, userRole, exp, iat, iatMs, jti
+// 서명은 풀에서 빌려 쓰는 Mac 으로 검증하고, claims 는 Map 이나 JSON 트리를 만들지 않고 바로 AuthUser 로 읽습니다.
+// 이 형태에서 벗어난 토큰은 null 을 반환하며, 호출하는 쪽(JwtUtil)이 jjwt 로 다시 검증합니다.
+// 폐기 여부도 payload 버퍼 안의 jti 를 그대로 TokenRevocationIndex 에 넘겨 확인합니다.
+public class Hs256TokenVerifier {
+
+    // base64url({"alg":"HS256"})
+    private static final String EXPECTED_HEADER = "eyJhbGciOiJIUzI1NiJ9";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int ENCODED_SIGNATURE_LENGTH = 43;
+
+    private static final byte[] SUB = ascii("sub");
+    private static final byte[] EMAIL = ascii("email");
+    private static final byte[] USER_ROLE = ascii("userRole");
+    private static final byte[] EXP = ascii("exp");
+    private static final byte[] IAT = ascii("iat");
+    private static final byte[] IAT_MS = ascii(JwtUtil.ISSUED_AT_MILLIS);
+    private static final byte[] JTI = ascii("jti");
+    private static final byte[][] LITERALS = {ascii("true"), ascii("false"), ascii("null")};
+
+    private static final UserRole[] ROLES = UserRole.values();
+    private static final byte[][] ROLE_NAMES = Arrays.stream(ROLES)
+            .map(role -> ascii(role.name()))
+            .toArray(byte[][]::new);
+
+    private static final int[] BASE64_URL = new int[128];
+
+    static {
+        Arrays.fill(BASE64_URL, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL[alphabet.charAt(i)] = i;
+        }
+    }
+
+    private final TokenRevocationIndex revocationIndex;
+    private final Mac prototype;
+    // Mac 과 버퍼를 담은 Scratch 를 고정 크기 슬롯에 두고 빌려 씁니다.
+    // ThreadLocal 은 가상 스레드(요청마다 새 스레드)에서는 요청마다 Mac 복제와 버퍼 할당이 일어나므로 사용하지 않습니다.
+    // 슬롯은 스레드 id 로 고르며, 비어 있거나 다른 스레드가 쓰고 있으면 새로 만들고 반납할 자리가 없으면 버립니다.
+    private final AtomicReferenceArray<Scratch> pool;
+    private final int poolMask;
+
+    public Hs256TokenVerifier(Key key, TokenRevocationIndex revocationIndex) {
+        this.revocationIndex = revocationIndex;
+        try {
+            prototype = Mac.getInstance("HmacSHA256");
+            prototype.init(key);
+        } catch (GeneralSecurityException e) {
+            throw new ServerException("HmacSHA256 알고리즘을 사용할 수 없습니다.");
+        }
+        // 동시에 검증하는 수는 캐리어(플랫폼) 스레드 수를 넘기 어려우므로 코어 수의 2배 정도면 충분합니다.
+        int poolSize = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 4 - 1);
+        this.pool = new AtomicReferenceArray<>(poolSize);
+        this.poolMask = poolSize - 1;
+    }
+
+    // 서명이 맞지 않으면 SignatureException, 만료되었으면 ExpiredJwtException 을 던집니다. (jjwt 와 같은 예외)
+    // 폐기된 토큰이면 RevokedTokenException 을 던집니다.
+    public AuthUser verify(String token) {
+        int headerEnd = EXPECTED_HEADER.length();
+        if (!token.startsWith(EXPECTED_HEADER) || token.length() <= headerEnd || token.charAt(headerEnd) != '.') {
+            return null;
+        }
+        int signatureStart = token.indexOf('.', headerEnd + 1);
+        if (signatureStart < 0 || token.indexOf('.', signatureStart + 1) >= 0) {
+            throw new MalformedJwtException("JWT strings must contain exactly 2 period characters.");
+        }
+        if (token.length() - signatureStart - 1 != ENCODED_SIGNATURE_LENGTH) {
+            return null;
+        }
+
+        int slot = (int) Thread.currentThread().threadId() & poolMask;
+        Scratch buffers = acquire(slot);
+        try {
+            return verify(token, headerEnd, signatureStart, buffers);
+        } finally {
+            release(slot, buffers);
+        }
+    }
+
+    private AuthUser verify(String token, int headerEnd, int signatureStart, Scratch buffers) {
+        byte[] input = buffers.input(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c >= 0x80) {
+                return null;
+            }
+            input[i] = (byte) c;
+        }
+
+        // 1. 서명 검증
+        Mac mac = buffers.mac;
+        mac.update(input, 0, signatureStart);
+        try {
+            mac.doFinal(buffers.expectedSignature, 0);
+        } catch (GeneralSecurityException e) {
+            throw new ServerException("JWT 서명을 계산할 수 없습니다.");
+        }
+        int signatureLength = decodeBase64Url(input, signatureStart + 1, token.length(), buffers.actualSignature);
+        if (signatureLength != SIGNATURE_LENGTH) {
+            return null;
+        }
+        if (!MessageDigest.isEqual(buffers.expectedSignature, buffers.actualSignature)) {
+            throw new SignatureException("JWT signature does not match locally computed signature. " +
+                    "JWT validity cannot be asserted and should not be trusted.");
+        }
+
+        // 2. claims 읽기
+        int payloadStart = headerEnd + 1;
+        byte[] payload = buffers.payload(signatureStart - payloadStart);
+        int payloadLength = decodeBase64Url(input, payloadStart, signatureStart, payload);
+        if (payloadLength < 0) {
+            throw new MalformedJwtException("Unable to decode JWT payload.");
+        }
+        ParsedClaims claims = buffers.claims;
+        claims.clear();
+        if (!parseClaims(payload, payloadLength, claims) || !claims.isComplete()) {
+            return null;
+        }
+
+        // 3. 만료 확인 (jjwt 와 마찬가지로 clock skew 없이 현재 시각이 exp 를 지나면 만료)
+        long now = System.currentTimeMillis();
+        if (claims.hasExpiration && now > claims.expirationSeconds * 1000) {
+            throw new ExpiredJwtException(null, null, "JWT expired at " +
+                    Instant.ofEpochSecond(claims.expirationSeconds) + ". Current time: " + Instant.ofEpochMilli(now));
+        }
+
+        // 4. 폐기 확인
+        if (revocationIndex.isRevoked(claims.userId, claims.issuedAtMillis(), payload, claims.jtiStart, claims.jtiLength)) {
+            throw new RevokedTokenException("Revoked JWT token.");
+        }
+
+        String email = new String(payload, claims.emailStart, claims.emailLength, StandardCharsets.UTF_8);
+        return new AuthUser(claims.userId, email, claims.userRole);
+    }
+
+    private Scratch acquire(int slot) {
+        Scratch buffers = pool.getAndSet(slot, null);
+        if (buffers != null) {
+            return buffers;
+        }
+        // 초기화된 Mac 을 복제하면 키 설정을 다시 하지 않아도 됩니다.
+        try {
+            return new Scratch((Mac) prototype.clone());
+        } catch (CloneNotSupportedException e) {
+            throw new ServerException("HmacSHA256 Mac 을 복제할 수 없습니다.");
+        }
+    }
+
+    private void release(int slot, Scratch buffers) {
+        // 예외로 끝났을 수 있으므로 Mac 을 초기 상태로 되돌린 뒤 반납합니다.
+        buffers.mac.reset();
+        pool.compareAndSet(slot, null, buffers);
+    }
+
+    // {"key":value,...} 형태의 한 단계 객체만 읽습니다. 값은 문자열(escape 없음), 정수, true/false/null 만 허용합니다.
+    private static boolean parseClaims(byte[] json, int length, ParsedClaims claims) {
+        int i = skipWhitespace(json, 0, length);
+        if (i >= length || json[i] != '{') {
+            return false;
+        }
+        i = skipWhitespace(json, i + 1, length);
+        if (i < length && json[i] == '}') {
+            return skipWhitespace(json, i + 1, length) == length;
+        }
+
+        while (i < length) {
+            // key
+            if (json[i] != '"') {
+                return false;
+            }
+            int keyStart = i + 1;
+            int keyEnd = findStringEnd(json, keyStart, length);
+            if (keyEnd < 0) {
+                return false;
+            }
+            i = skipWhitespace(json, keyEnd + 1, length);
+            if (i >= length || json[i] != ':') {
+                return false;
+            }
+            i = skipWhitespace(json, i + 1, length);
+            if (i >= length) {
+                return false;
+            }
+
+            // value
+            int valueEnd;
+            if (json[i] == '"') {
+                int valueStart = i + 1;
+                valueEnd = findStringEnd(json, valueStart, length);
+                if (valueEnd < 0 || !readString(json, keyStart, keyEnd, valueStart, valueEnd, claims)) {
+                    return false;
+                }
+                valueEnd++;
+            } else if (json[i] == '-' || (json[i] >= '0' && json[i] <= '9')) {
+                valueEnd = i + 1;
+                while (valueEnd < length && json[valueEnd] >= '0' && json[valueEnd] <= '9') {
+                    valueEnd++;
+                }
+                if (!readNumber(json, keyStart, keyEnd, i, valueEnd, claims)) {
+                    return false;
+                }
+            } else {
+                valueEnd = skipLiteral(json, i, length);
+                // 알고 있는 claim 이 문자열/숫자가 아니거나, 처리하지 않는 claim(nbf 등)은 jjwt 에 맡깁니다.
+                if (valueEnd < 0 || isKnownClaim(json, keyStart, keyEnd)) {
+                    return false;
+                }
+            }
+
+            i = skipWhitespace(json, valueEnd, length);
+            if (i >= length) {
+                return false;
+            }
+            if (json[i] == '}') {
+                return skipWhitespace(json, i + 1, length) == length;
+            }
+            if (json[i] != ',') {
+                return false;
+            }
+            i = skipWhitespace(json, i + 1, length);
+        }
+        return false;
+    }
+
+    private static boolean readString(byte[] json, int keyStart, int keyEnd, int valueStart, int valueEnd, ParsedClaims claims) {
+        if (equals(json, keyStart, keyEnd, SUB)) {
+            long userId = parseLong(json, valueStart, valueEnd);
+            if (userId < 0) {
+                return false;
+            }
+            claims.userId = userId;
+            return true;
+        }
+        if (equals(json, keyStart, keyEnd, EMAIL)) {
+            claims.emailStart = valueStart;
+            claims.emailLength = valueEnd - valueStart;
+            return true;
+        }
+        if (equals(json, keyStart, keyEnd, USER_ROLE)) {
+            for (int r = 0; r < ROLES.length; r++) {
+                if (equals(json, valueStart, valueEnd, ROLE_NAMES[r])) {
+                    claims.userRole = ROLES[r];
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (equals(json, keyStart, keyEnd, JTI)) {
+            claims.jtiStart = valueStart;
+            claims.jtiLength = valueEnd - valueStart;
+            return true;
+        }
+        return !equals(json, keyStart, keyEnd, EXP) && !equals(json, keyStart, keyEnd, IAT)
+                && !equals(json, keyStart, keyEnd, IAT_MS) && !isReserved(json, keyStart, keyEnd);
+    }
+
+    private static boolean readNumber(byte[] json, int keyStart, int keyEnd, int valueStart, int valueEnd, ParsedClaims claims) {
+        if (equals(json, keyStart, keyEnd, EXP)) {
+            long expiration = parseLong(json, valueStart, valueEnd);
+            if (expiration < 0) {
+                return false;
+            }
+            claims.expirationSeconds = expiration;
+            claims.hasExpiration = true;
+            return true;
+        }
+        if (equals(json, keyStart, keyEnd, IAT)) {
+            long issuedAt = parseLong(json, valueStart, valueEnd);
+            if (issuedAt < 0) {
+                return false;
+            }
+            claims.issuedAtSeconds = issuedAt;
+            return true;
+        }
+        if (equals(json, keyStart, keyEnd, IAT_MS)) {
+            long issuedAtMillis = parseLong(json, valueStart, valueEnd);
+            if (issuedAtMillis < 0) {
+                return false;
+            }
+            claims.issuedAtMillis = issuedAtMillis;
+            return true;
+        }
+        return !isKnownClaim(json, keyStart, keyEnd);
+    }
+
+    private static boolean isKnownClaim(byte[] json, int keyStart, int keyEnd) {
+        return equals(json, keyStart, keyEnd, SUB) || equals(json, keyStart, keyEnd, EMAIL)
+                || equals(json, keyStart, keyEnd, USER_ROLE) || equals(json, keyStart, keyEnd, EXP)
+                || equals(json, keyStart, keyEnd, IAT) || equals(json, keyStart, keyEnd, IAT_MS)
+                || equals(json, keyStart, keyEnd, JTI)
+                || isReserved(json, keyStart, keyEnd);
+    }
+
+    // jjwt 가 검증에 사용하는 등록 claim 중 이 클래스가 처리하지 않는 것
+    private static boolean isReserved(byte[] json, int keyStart, int keyEnd) {
+        return keyEnd - keyStart == 3 && json[keyStart] == 'n' && json[keyStart + 1] == 'b' && json[keyStart + 2] == 'f';
+    }
+
+    // 닫는 따옴표 위치를 반환합니다. escape 가 있으면 jjwt 에 맡기기 위해 -1 을 반환합니다.
+    private static int findStringEnd(byte[] json, int from, int length) {
+        for (int i = from; i < length; i++) {
+            if (json[i] == '"') {
+                return i;
+            }
+            if (json[i] == '\\') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipLiteral(byte[] json, int from, int length) {
+        for (byte[] literal : LITERALS) {
+            if (from + literal.length <= length && equals(json, from, from + literal.length, literal)) {
+                return from + literal.length;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] json, int from, int length) {
+        int i = from;
+        while (i < length && (json[i] == ' ' || json[i] == '\t' || json[i] == '\n' || json[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    // 0 이상의 십진수만 허용하며, 형식이 맞지 않거나 long 범위를 넘으면 -1 을 반환합니다.
+    private static long parseLong(byte[] bytes, int from, int to) {
+        if (from == to || to - from > 18) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static boolean equals(byte[] bytes, int from, int to, byte[] expected) {
+        return Arrays.equals(bytes, from, to, expected, 0, expected.length);
+    }
+
+    // 패딩 없는 base64url 을 디코딩해 길이를 반환합니다. 잘못된 입력이면 -1 을 반환합니다.
+    private static int decodeBase64Url(byte[] src, int from, int to, byte[] dst) {
+        int length = to - from;
+        if (length % 4 == 1) {
+            return -1;
+        }
+        int out = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = from; i < to; i++) {
+            int value = BASE64_URL[src[i]];
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                if (out == dst.length) {
+                    return -1;
+                }
+                dst[out++] = (byte) (bits >> bitCount);
+            }
+        }
+        return out;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    // 검증 한 번 동안 빌려 쓰는 Mac 과 버퍼
+    private static class Scratch {
+
+        private final Mac mac;
+        private final byte[] expectedSignature = new byte[SIGNATURE_LENGTH];
+        private final byte[] actualSignature = new byte[SIGNATURE_LENGTH];
+        private final ParsedClaims claims = new ParsedClaims();
+        private byte[] input = new byte[512];
+        private byte[] payload = new byte[384];
+
+        private Scratch(Mac mac) {
+            this.mac = mac;
+        }
+
+        private byte[] input(int length) {
+            if (input.length < length) {
+                input = new byte[length];
+            }
+            return input;
+        }
+
+        private byte[] payload(int encodedLength) {
+            int decodedLength = encodedLength * 3 / 4 + 1;
+            if (payload.length < decodedLength) {
+                payload = new byte[decodedLength];
+            }
+            return payload;
+        }
+    }
+
+    // 파싱 중인 claims (email, jti 는 payload 안의 위치만 기록해 두고, email 만 마지막에 한 번 String 으로 만듭니다.)
+    private static class ParsedClaims {
+
+        private long userId;
+        private int emailStart;
+        private int emailLength;
+        private UserRole userRole;
+        private long expirationSeconds;
+        private boolean hasExpiration;
+        private long issuedAtSeconds;
+        private long issuedAtMillis;
+        private int jtiStart;
+        private int jtiLength;
+
+        private void clear() {
+            userId = -1;
+            emailStart = -1;
+            emailLength = 0;
+            userRole = null;
+            expirationSeconds = 0;
+            hasExpiration = false;
+            issuedAtSeconds = 0;
+            issuedAtMillis = -1;
+            jtiStart = 0;
+            jtiLength = 0;
+        }
+
+        // iatMs 가 없으면 JwtUtil.getIssuedAtMillis 와 같이 iat 초의 마지막 밀리초로 봅니다.
+        private long issuedAtMillis() {
+            return issuedAtMillis >= 0 ? issuedAtMillis : issuedAtSeconds * 1000 + 999;
+        }
+
+        private boolean isComplete() {
+            return userId >= 0 && emailStart >= 0 && userRole != null;
+        }
+    }
+}
@@ -1,37 +1,75 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.revocation.TokenRevocationIndex;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j(topic = "JwtUtil")
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    private static final long DEFAULT_ACCESS_TOKEN_TTL_MS = 15 * 60 * 1000L; // 15분
+    private static final long DEFAULT_REFRESH_TOKEN_TTL_MS = 14 * 24 * 60 * 60 * 1000L; // 14일
+    private static final byte[] REFRESH_KEY_LABEL = "refresh-token".getBytes(StandardCharsets.US_ASCII);
+    // 표준 iat 는 초 단위이므로, 유저별 폐기 시각(cutoff)과 비교할 발급 시각을 밀리초로 따로 담습니다.
+    static final String ISSUED_AT_MILLIS = "iatMs";
 
     @Value("${jwt.secret.key}")
     private String secretKey;
+    // access 토큰은 짧게 발급하고, 만료되면 refresh 토큰으로 다시 발급받습니다.
+    @Value("${jwt.access-token.ttl-ms:" + DEFAULT_ACCESS_TOKEN_TTL_MS + "}")
+    private long accessTokenTtlMillis = DEFAULT_ACCESS_TOKEN_TTL_MS;
+    @Value("${jwt.refresh-token.ttl-ms:" + DEFAULT_REFRESH_TOKEN_TTL_MS + "}")
+    private long refreshTokenTtlMillis = DEFAULT_REFRESH_TOKEN_TTL_MS;
     private Key key;
+    private Key refreshKey;
+    private JwtParser jwtParser;
+    private JwtParser refreshTokenParser;
+    private Hs256TokenVerifier tokenVerifier;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    private final TokenRevocationIndex tokenRevocationIndex;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        // 파서는 thread-safe 하므로 한 번만 생성해 재사용합니다.
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        tokenVerifier = new Hs256TokenVerifier(key, tokenRevocationIndex);
+
+        // refresh 토큰은 비밀키에서 유도한 별도 키로 서명해 access 토큰 자리에 쓸 수 없게 합니다.
+        refreshKey = Keys.hmacShaKeyFor(deriveKey(bytes, REFRESH_KEY_LABEL));
+        refreshTokenParser = Jwts.parserBuilder()
+                .setSigningKey(refreshKey)
+                .build();
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
@@ -42,12 +80,43 @@ public class JwtUtil {
                         .setSubject(String.valueOf(userId))
                         .claim("email", email)
                         .claim("userRole", userRole)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME))
+                        .setExpiration(new Date(date.getTime() + accessTokenTtlMillis))
                         .setIssuedAt(date) // 발급일
+                        .claim(ISSUED_AT_MILLIS, date.getTime())
+                        .setId(UUID.randomUUID().toString()) // 토큰 단위 폐기용 jti
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
 
+    public String createRefreshToken(Long userId) {
+        Date date = new Date();
+
+        return Jwts.builder()
+                .setSubject(String.valueOf(userId))
+                .setExpiration(new Date(date.getTime() + refreshTokenTtlMillis))
+                .setIssuedAt(date)
+                .claim(ISSUED_AT_MILLIS, date.getTime())
+                .setId(UUID.randomUUID().toString())
+                .signWith(refreshKey, signatureAlgorithm)
+                .compact();
+    }
+
+    // 서명, 만료를 확인한 refresh 토큰의 claims 를 반환합니다. 폐기 여부는 호출하는 쪽(AuthService)에서 확인합니다.
+    public Claims parseRefreshToken(String refreshToken) {
+        try {
+            Claims claims = refreshTokenParser.parseClaimsJws(refreshToken).getBody();
+            if (claims.getSubject() == null || claims.getId() == null || claims.getIssuedAt() == null
+                    || claims.getExpiration() == null) {
+                throw new AuthException("유효하지 않은 refresh 토큰입니다.");
+            }
+            return claims;
+        } catch (ExpiredJwtException e) {
+            throw new AuthException("만료된 refresh 토큰입니다.");
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new AuthException("유효하지 않은 refresh 토큰입니다.");
+        }
+    }
+
     public String substringToken(String tokenValue) {
         if (StringUtils.hasText(tokenValue) && tokenValue.startsWith(BEARER_PREFIX)) {
             return tokenValue.substring(7);
@@ -55,11 +124,48 @@ public class JwtUtil {
         throw new ServerException("Not Found Token");
     }
 
+    // JwtFilter 에서 사용합니다. JwtUtil 이 발급한 형태의 토큰은 jjwt 를 거치지 않고 검증해 바로 AuthUser 로 읽고,
+    // 그 외 형태의 토큰은 jjwt 로 검증합니다. 어느 쪽이든 실패하면 jjwt 와 같은 예외를 던집니다.
+    public AuthUser verifyToken(String token) {
+        AuthUser authUser = tokenVerifier.verify(token);
+        if (authUser != null) {
+            return authUser;
+        }
+
+        Claims claims = extractClaims(token);
+        long userId = Long.parseLong(claims.getSubject());
+        if (tokenRevocationIndex.isRevoked(userId, getIssuedAtMillis(claims), claims.getId())) {
+            throw new RevokedTokenException("Revoked JWT token.");
+        }
+        return new AuthUser(
+                userId,
+                claims.get("email", String.class),
+                UserRole.valueOf(claims.get("userRole", String.class))
+        );
+    }
+
+    // iatMs 가 없는 토큰(다른 곳에서 발급했거나 iatMs 도입 전 토큰)은 iat 초의 마지막 밀리초에 발급된 것으로 봅니다.
+    public static long getIssuedAtMillis(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS, Long.class);
+        if (issuedAtMillis != null) {
+            return issuedAtMillis;
+        }
+        return claims.getIssuedAt() == null ? 0L : claims.getIssuedAt().getTime() + 999;
+    }
+
+    // JwtUtil 이 발급한 토큰은 verifyToken 의 빠른 경로에서 끝나므로, 여기까지 오는 토큰은 드뭅니다.
+    // 그래서 claims 를 따로 캐시하지 않고 매번 jjwt 로 검증합니다.
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    private static byte[] deriveKey(byte[] secret, byte[] label) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            return mac.doFinal(label);
+        } catch (GeneralSecurityException e) {
+            throw new ServerException("refresh 토큰 키를 만들 수 없습니다.");
+        }
     }
 }
@@ -1,17 +1,114 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.TimeUnit;
+
+// 해시의 cost 는 BCrypt 문자열($2a$<cost>$...)에 함께 저장됩니다.
+// 해싱/검증 시간은 cost 별 password.hashing.duration 타이머로 기록하므로 cost 단계별 처리량과 지연을 따로 볼 수 있습니다.
 @Component
-public class PasswordEncoder {
+public class PasswordEncoder implements MeterBinder {
+
+    private final PasswordHashingPolicy passwordHashingPolicy;
+    private final Timer[] encodeTimers = new Timer[BCrypt.MAX_COST + 1];
+    private final Timer[] matchTimers = new Timer[BCrypt.MAX_COST + 1];
+    private final Counter[] rehashCounters = new Counter[BCrypt.MAX_COST + 1];
+    private volatile MeterRegistry meterRegistry;
+
+    public PasswordEncoder(PasswordHashingPolicy passwordHashingPolicy) {
+        this.passwordHashingPolicy = passwordHashingPolicy;
+    }
 
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        int cost = passwordHashingPolicy.getCost();
+        long start = System.nanoTime();
+        String encodedPassword = BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray());
+        record(encodeTimers, "encode", cost, start);
+        return encodedPassword;
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+        if (result.details != null) {
+            record(matchTimers, "matches", result.details.cost, start);
+        }
         return result.verified;
     }
+
+    // 저장된 해시의 cost 가 현재 정책 밖이면 true 를 반환합니다. (로그인 성공 시 다시 해싱할 대상)
+    public boolean needsRehash(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        return cost < 0 || !passwordHashingPolicy.accepts(cost);
+    }
+
+    // 정책 밖의 해시를 현재 정책 cost 로 다시 해싱하고, 이전 cost 별로 횟수를 기록합니다.
+    public String rehash(String rawPassword, String oldEncodedPassword) {
+        String encodedPassword = encode(rawPassword);
+        int oldCost = costOf(oldEncodedPassword);
+        if (oldCost >= 0) {
+            countRehash(oldCost);
+        }
+        return encodedPassword;
+    }
+
+    // $2a$10$... 의 cost 부분만 읽습니다. 형식이 맞지 않으면 -1 을 반환합니다.
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        int tens = encodedPassword.charAt(4) - '0';
+        int ones = encodedPassword.charAt(5) - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        int cost = tens * 10 + ones;
+        return cost >= BCrypt.MIN_COST && cost <= BCrypt.MAX_COST ? cost : -1;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+    }
+
+    // 타이머는 cost 별로 처음 사용할 때 등록합니다. 동시에 등록해도 레지스트리가 같은 타이머를 돌려주므로 잠그지 않습니다.
+    private void record(Timer[] timers, String operation, int cost, long start) {
+        long elapsed = System.nanoTime() - start;
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            return;
+        }
+        Timer timer = timers[cost];
+        if (timer == null) {
+            timer = Timer.builder("password.hashing.duration")
+                    .description("BCrypt 해싱/검증 시간 (cost 별)")
+                    .tag("operation", operation)
+                    .tag("cost", String.valueOf(cost))
+                    .register(registry);
+            timers[cost] = timer;
+        }
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    private void countRehash(int cost) {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            return;
+        }
+        Counter counter = rehashCounters[cost];
+        if (counter == null) {
+            counter = Counter.builder("password.hashing.rehash")
+                    .description("정책 밖의 cost 로 저장되어 다시 해싱한 비밀번호 수 (저장된 cost 별)")
+                    .tag("cost", String.valueOf(cost))
+                    .register(registry);
+            rehashCounters[cost] = counter;
+        }
+        counter.increment();
+    }
 }
@@ -0,0 +1,127 @@
+package org.example.expert.config;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToLongFunction;
+
+// 새로 만드는 BCrypt 해시의 cost 를 정합니다.
+// password.hashing.cost 를 지정하지 않으면 시작 시 이 서버에서 직접 해싱해 보고, 해시 1회가 목표 시간(target-ms)에
+// 가장 가까운 cost 를 고릅니다. cost 가 1 오를 때마다 해싱 시간은 두 배가 됩니다.
+// 저장된 해시의 cost 가 [cost, cost + 1] 범위를 벗어나면 정책 밖으로 보고 로그인 시 다시 해싱합니다.
+// (cost + 1 까지 허용하는 것은 측정 오차로 서버마다 cost 가 1 씩 달라져도 해시를 계속 바꾸지 않기 위해서입니다.)
+@Slf4j
+@Component
+public class PasswordHashingPolicy implements MeterBinder {
+
+    private static final int ACCEPTED_COST_ABOVE = 1;
+    private static final int CALIBRATION_RUNS = 2;
+    private static final String CALIBRATION_PASSWORD = "calibration-Password1234";
+
+    private final int cost;
+    private final long targetNanos;
+    private final long measuredNanos;
+
+    @Autowired
+    public PasswordHashingPolicy(
+            @Value("${password.hashing.cost:0}") int fixedCost,
+            @Value("${password.hashing.target-ms:100}") long targetMillis,
+            @Value("${password.hashing.min-cost:10}") int minCost,
+            @Value("${password.hashing.max-cost:14}") int maxCost
+    ) {
+        this.targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+        if (fixedCost > 0) {
+            this.cost = checkCost(fixedCost);
+            this.measuredNanos = 0;
+            log.info("BCrypt cost 를 설정값으로 고정합니다. cost={}", cost);
+            return;
+        }
+
+        int min = checkCost(Math.max(minCost, BCrypt.MIN_COST));
+        int max = checkCost(Math.max(maxCost, min));
+        // 첫 측정이 JIT 컴파일 전 코드로 느리게 나오지 않도록 가장 낮은 cost 로 먼저 몇 번 해싱합니다.
+        for (int i = 0; i < 3; i++) {
+            measure(BCrypt.MIN_COST);
+        }
+        this.cost = calibrate(targetNanos, min, max, PasswordHashingPolicy::measure);
+        this.measuredNanos = measure(cost);
+        log.info("BCrypt cost 를 측정으로 정했습니다. cost={}, 해시 1회={}ms (목표 {}ms)",
+                cost, TimeUnit.NANOSECONDS.toMillis(measuredNanos), targetMillis);
+    }
+
+    private PasswordHashingPolicy(int cost) {
+        this.cost = checkCost(cost);
+        this.targetNanos = 0;
+        this.measuredNanos = 0;
+    }
+
+    // 측정 없이 cost 를 고정한 정책 (테스트, 벤치마크용)
+    public static PasswordHashingPolicy fixed(int cost) {
+        return new PasswordHashingPolicy(cost);
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public boolean accepts(int storedCost) {
+        return storedCost >= cost && storedCost <= cost + ACCEPTED_COST_ABOVE;
+    }
+
+    // minCost 부터 cost 를 올려 가며 목표 시간을 처음 넘는 지점을 찾고, 그 cost 와 바로 아래 cost 중
+    // 목표 시간과의 비율이 더 가까운 쪽을 반환합니다.
+    static int calibrate(long targetNanos, int minCost, int maxCost, IntToLongFunction hashNanos) {
+        long previous = hashNanos.applyAsLong(minCost);
+        if (previous >= targetNanos) {
+            return minCost;
+        }
+        for (int candidate = minCost + 1; candidate <= maxCost; candidate++) {
+            long elapsed = hashNanos.applyAsLong(candidate);
+            if (elapsed >= targetNanos) {
+                return (double) elapsed / targetNanos <= (double) targetNanos / previous ? candidate : candidate - 1;
+            }
+            previous = elapsed;
+        }
+        return maxCost;
+    }
+
+    // 다른 작업에 밀려 느리게 나온 값을 피하도록 여러 번 해싱해 가장 짧은 시간을 사용합니다.
+    private static long measure(int cost) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_RUNS; i++) {
+            long start = System.nanoTime();
+            BCrypt.withDefaults().hashToString(cost, CALIBRATION_PASSWORD.toCharArray());
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static int checkCost(int cost) {
+        if (cost < BCrypt.MIN_COST || cost > BCrypt.MAX_COST) {
+            throw new IllegalArgumentException("BCrypt cost 는 " + BCrypt.MIN_COST + " ~ " + BCrypt.MAX_COST + " 사이여야 합니다: " + cost);
+        }
+        return cost;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("password.hashing.policy.cost", this, PasswordHashingPolicy::getCost)
+                .description("새 비밀번호 해시에 사용하는 BCrypt cost")
+                .register(registry);
+        Gauge.builder("password.hashing.policy.target", this, policy -> policy.targetNanos / 1e9)
+                .description("cost 측정 시 목표로 한 해시 1회 시간")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("password.hashing.policy.measured", this, policy -> policy.measuredNanos / 1e9)
+                .description("시작 시 측정한, 정한 cost 의 해시 1회 시간")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.JwtException;
+
+// 서명과 만료는 유효하지만 TokenRevocationIndex 에 의해 폐기된 토큰
+public class RevokedTokenException extends JwtException {
+
+    public RevokedTokenException(String message) {
+        super(message);
+    }
+}
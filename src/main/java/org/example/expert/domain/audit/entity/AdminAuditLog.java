@@ -0,0 +1,31 @@
+package org.example.expert.domain.audit.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "admin_audit_logs")
+public class AdminAuditLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "admin_audit_log_seq")
+    @SequenceGenerator(name = "admin_audit_log_seq", sequenceName = "admin_audit_logs_seq", allocationSize = 50)
+    private Long id;
+
+    private Long userId;
+    private String httpMethod;
+    private String requestUrl;
+    private LocalDateTime requestedAt;
+
+    public AdminAuditLog(Long userId, String httpMethod, String requestUrl, LocalDateTime requestedAt) {
+        this.userId = userId;
+        this.httpMethod = httpMethod;
+        this.requestUrl = requestUrl;
+        this.requestedAt = requestedAt;
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.expert.domain.audit.recorder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.audit.entity.AdminAuditLog;
+import org.example.expert.domain.audit.repository.AdminAuditLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// 관리자 API 접근 기록을 요청 스레드에서는 링 버퍼에 넣기만 하고,
+// 전용 writer 스레드가 모아서 한 트랜잭션으로 admin_audit_logs 테이블에 저장합니다.
+@Slf4j
+@Component
+public class AdminAuditRecorder implements MeterBinder {
+
+    private final AdminAuditLogRepository adminAuditLogRepository;
+    private final AuditEventRingBuffer ringBuffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final Thread writerThread;
+    private volatile boolean running;
+
+    public AdminAuditRecorder(
+            AdminAuditLogRepository adminAuditLogRepository,
+            @Value("${admin.audit.buffer-capacity:8192}") int bufferCapacity,
+            @Value("${admin.audit.batch-size:200}") int batchSize,
+            @Value("${admin.audit.flush-interval-ms:200}") long flushIntervalMillis
+    ) {
+        this.adminAuditLogRepository = adminAuditLogRepository;
+        this.ringBuffer = new AuditEventRingBuffer(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.writerThread = new Thread(this::writeLoop, "admin-audit-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    // 요청 스레드에서 호출됩니다. 객체를 만들지 않고 미리 할당된 슬롯에 값만 복사합니다.
+    public void record(Long userId, String httpMethod, String requestUri) {
+        ringBuffer.tryPublish(userId, httpMethod, requestUri, System.currentTimeMillis());
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread.start();
+    }
+
+    // 종료 시 버퍼에 남은 기록까지 저장한 뒤 writer 를 멈춥니다.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("admin.audit.buffer.size", ringBuffer, AuditEventRingBuffer::size)
+                .register(registry);
+        FunctionCounter.builder("admin.audit.events", ringBuffer, AuditEventRingBuffer::getDroppedCount)
+                .tag("outcome", "dropped")
+                .register(registry);
+        FunctionCounter.builder("admin.audit.events", writtenCount, AtomicLong::get)
+                .tag("outcome", "written")
+                .register(registry);
+        FunctionCounter.builder("admin.audit.events", failedCount, AtomicLong::get)
+                .tag("outcome", "failed")
+                .register(registry);
+    }
+
+    private void writeLoop() {
+        List<AdminAuditLog> batch = new ArrayList<>(batchSize);
+        AuditEventRingBuffer.AuditEventHandler collector = (userId, httpMethod, requestUri, requestedAtMillis) ->
+                batch.add(new AdminAuditLog(userId, httpMethod, requestUri, toLocalDateTime(requestedAtMillis)));
+
+        while (running) {
+            int drained = ringBuffer.drain(collector, batchSize);
+            flush(batch);
+            // 한 번에 batchSize 만큼 차지 않았다면 다음 주기까지 기다렸다가 모아서 저장합니다.
+            if (drained < batchSize) {
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+        }
+
+        while (ringBuffer.drain(collector, batchSize) > 0) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<AdminAuditLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            adminAuditLogRepository.saveAll(batch);
+            writtenCount.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            // 감사 로그 저장 실패가 writer 스레드를 멈추지 않도록 해당 배치만 버립니다.
+            failedCount.addAndGet(batch.size());
+            log.error("관리자 접근 기록 {}건을 저장하지 못했습니다.", batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zoneId);
+    }
+}
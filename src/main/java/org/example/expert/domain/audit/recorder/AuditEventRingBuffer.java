@@ -0,0 +1,96 @@
+package org.example.expert.domain.audit.recorder;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 미리 할당한 슬롯을 재사용하는 다중 생산자 / 단일 소비자 링 버퍼입니다.
+// 생산자는 CAS 로 시퀀스를 확보한 뒤 슬롯에 값을 쓰고, 슬롯별 발행 시퀀스를 기록해 소비자에게 공개합니다.
+// 버퍼가 가득 차면 요청 스레드를 기다리게 하지 않고 이벤트를 버린 뒤 버린 개수만 셉니다.
+public final class AuditEventRingBuffer {
+
+    private final AuditEvent[] slots;
+    private final int mask;
+    private final AtomicLongArray publishedSequences;
+    private final AtomicLong claimSequence = new AtomicLong();
+    private final AtomicLong consumeSequence = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    // capacity 는 2의 거듭제곱으로 올림합니다.
+    public AuditEventRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity 는 1 이상이어야 합니다.");
+        }
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.slots = new AuditEvent[size];
+        this.mask = size - 1;
+        this.publishedSequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = new AuditEvent();
+            publishedSequences.set(i, -1L);
+        }
+    }
+
+    public boolean tryPublish(Long userId, String httpMethod, String requestUri, long requestedAtMillis) {
+        long sequence;
+        do {
+            sequence = claimSequence.get();
+            if (sequence - consumeSequence.get() >= slots.length) {
+                droppedCount.incrementAndGet();
+                return false;
+            }
+        } while (!claimSequence.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) (sequence & mask);
+        AuditEvent slot = slots[index];
+        slot.userId = userId;
+        slot.httpMethod = httpMethod;
+        slot.requestUri = requestUri;
+        slot.requestedAtMillis = requestedAtMillis;
+        publishedSequences.set(index, sequence);
+        return true;
+    }
+
+    // 발행 순서대로 최대 maxEvents 개를 handler 에 넘깁니다. 소비자 스레드 하나에서만 호출해야 합니다.
+    public int drain(AuditEventHandler handler, int maxEvents) {
+        long next = consumeSequence.get();
+        int drained = 0;
+        while (drained < maxEvents) {
+            int index = (int) (next & mask);
+            if (publishedSequences.get(index) != next) {
+                break;
+            }
+            AuditEvent slot = slots[index];
+            handler.onEvent(slot.userId, slot.httpMethod, slot.requestUri, slot.requestedAtMillis);
+            slot.requestUri = null;
+            next++;
+            drained++;
+        }
+        // 처리를 마친 뒤에 소비 시퀀스를 올려야 생산자가 아직 읽지 않은 슬롯을 덮어쓰지 않습니다.
+        consumeSequence.set(next);
+        return drained;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    public int size() {
+        return (int) Math.max(claimSequence.get() - consumeSequence.get(), 0);
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @FunctionalInterface
+    public interface AuditEventHandler {
+        void onEvent(Long userId, String httpMethod, String requestUri, long requestedAtMillis);
+    }
+
+    private static final class AuditEvent {
+        private Long userId;
+        private String httpMethod;
+        private String requestUri;
+        private long requestedAtMillis;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "user_token_cutoffs")
+public class UserTokenCutoff {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime notBefore;
+
+    public UserTokenCutoff(Long userId, LocalDateTime notBefore) {
+        this.userId = userId;
+        this.notBefore = notBefore;
+    }
+
+    public void moveTo(LocalDateTime notBefore) {
+        if (notBefore.isAfter(this.notBefore)) {
+            this.notBefore = notBefore;
+        }
+    }
+}
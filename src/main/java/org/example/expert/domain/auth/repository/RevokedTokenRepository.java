@@ -0,0 +1,25 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String>, RevokedTokenRepositoryCustom {
+
+    // 시작 시 인덱스 재구성용: 아직 만료되지 않은 토큰만 읽습니다.
+    List<RevokedToken> findAllByExpiresAtAfter(LocalDateTime now);
+
+    // 다른 인스턴스에서 폐기한 토큰을 주기적으로 가져옵니다.
+    List<RevokedToken> findAllByRevokedAtGreaterThanEqual(LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
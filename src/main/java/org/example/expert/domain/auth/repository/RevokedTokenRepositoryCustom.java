@@ -0,0 +1,9 @@
+package org.example.expert.domain.auth.repository;
+
+import java.time.LocalDateTime;
+
+public interface RevokedTokenRepositoryCustom {
+
+    // 폐기 기록을 INSERT 로만 남깁니다. 같은 jti 가 이미 있으면(기본키 중복) false 를 반환합니다.
+    boolean insertIfAbsent(String jti, long userId, LocalDateTime expiresAt, LocalDateTime revokedAt);
+}
@@ -0,0 +1,29 @@
+package org.example.expert.domain.auth.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+// JPA 의 save/persist 로 INSERT 하면 기본키 중복이 flush 시점 예외가 되어 트랜잭션 전체가 rollback-only 로 표시됩니다.
+// 중복을 "이미 사용된 토큰" 으로 처리하고 같은 트랜잭션에서 계속 진행할 수 있도록 JDBC 로 직접 INSERT 합니다.
+// (JpaTransactionManager 가 트랜잭션의 커넥션을 공유하므로 같은 트랜잭션 안에서 실행됩니다.)
+@RequiredArgsConstructor
+public class RevokedTokenRepositoryImpl implements RevokedTokenRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIfAbsent(String jti, long userId, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO revoked_tokens (jti, user_id, expires_at, revoked_at) VALUES (?, ?, ?, ?)",
+                    jti, userId, expiresAt, revokedAt
+            );
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
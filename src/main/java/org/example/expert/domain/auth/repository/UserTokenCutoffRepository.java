@@ -0,0 +1,13 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.UserTokenCutoff;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserTokenCutoffRepository extends JpaRepository<UserTokenCutoff, Long> {
+
+    // 시작 시에는 아직 유효한 토큰이 있을 수 있는 기간(최대 토큰 수명)의 기록만, 주기적 동기화에는 최근 변경분만 읽습니다.
+    List<UserTokenCutoff> findAllByNotBeforeGreaterThanEqual(LocalDateTime since);
+}
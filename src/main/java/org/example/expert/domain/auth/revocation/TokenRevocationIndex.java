@@ -0,0 +1,105 @@
+package org.example.expert.domain.auth.revocation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 모든 요청의 JWT 검증에서 사용하는 메모리 내 폐기 목록입니다. (원본은 revoked_tokens, user_token_cutoffs 테이블)
+// - jti 폐기: Bloom filter 로 먼저 거르고, 통과한 경우에만 jti -> 만료 시각 맵을 확인합니다.
+// - 유저별 cutoff: 유저 id -> 시각(epoch millis) 맵. 이 시각보다 먼저 발급된 토큰은 모두 폐기된 것으로 봅니다.
+//   JWT 의 iat 는 초 단위라 폐기 직후 같은 초에 발급한 토큰까지 거절되므로, 발급 시각은 밀리초(iatMs claim)로 비교합니다.
+@Component
+public class TokenRevocationIndex implements MeterBinder {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final int expectedTokens;
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<Long, Long> cutoffs = new ConcurrentHashMap<>();
+    private volatile BloomFilter revokedTokenFilter;
+
+    public TokenRevocationIndex(@Value("${jwt.revocation.expected-tokens:100000}") int expectedTokens) {
+        this.expectedTokens = expectedTokens;
+        this.revokedTokenFilter = BloomFilter.create(expectedTokens, FALSE_POSITIVE_RATE);
+    }
+
+    // Hs256TokenVerifier 용: payload 버퍼 안의 jti 를 String 으로 만들지 않고 확인합니다.
+    public boolean isRevoked(long userId, long issuedAtMillis, byte[] jti, int offset, int length) {
+        if (isIssuedBeforeCutoff(userId, issuedAtMillis)) {
+            return true;
+        }
+        if (length <= 0 || !revokedTokenFilter.mightContain(BloomFilter.hash(jti, offset, length))) {
+            return false;
+        }
+        return revokedTokens.containsKey(new String(jti, offset, length, StandardCharsets.US_ASCII));
+    }
+
+    public boolean isRevoked(long userId, long issuedAtMillis, String jti) {
+        if (isIssuedBeforeCutoff(userId, issuedAtMillis)) {
+            return true;
+        }
+        return isTokenRevoked(jti);
+    }
+
+    public boolean isTokenRevoked(String jti) {
+        if (jti == null || !revokedTokenFilter.mightContain(BloomFilter.hash(jti))) {
+            return false;
+        }
+        return revokedTokens.containsKey(jti);
+    }
+
+    // 폐기와 정리는 드물게 일어나므로 filter 교체와 겹치지 않도록 직렬화합니다. (조회는 잠금 없이 수행)
+    public synchronized void revokeToken(String jti, long expiresAt) {
+        revokedTokens.merge(jti, expiresAt, Math::max);
+        revokedTokenFilter.put(BloomFilter.hash(jti));
+    }
+
+    public void revokeTokensIssuedBefore(long userId, long cutoffMillis) {
+        cutoffs.merge(userId, cutoffMillis, Math::max);
+    }
+
+    // 만료된 jti 와, 최대 토큰 수명보다 오래된 cutoff 는 더 이상 검사할 토큰이 없으므로 제거합니다.
+    // Bloom filter 는 삭제를 지원하지 않으므로 jti 를 제거했다면 남은 jti 로 새로 만들어 교체합니다. (now 는 epoch second)
+    public synchronized void prune(long now, long maxTokenLifetimeSeconds) {
+        boolean removed = revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+        long oldestCutoffMillis = (now - maxTokenLifetimeSeconds) * 1000;
+        cutoffs.values().removeIf(cutoff -> cutoff < oldestCutoffMillis);
+        if (removed) {
+            BloomFilter rebuilt = BloomFilter.create(Math.max(expectedTokens, revokedTokens.size()), FALSE_POSITIVE_RATE);
+            revokedTokens.keySet().forEach(jti -> rebuilt.put(BloomFilter.hash(jti)));
+            revokedTokenFilter = rebuilt;
+        }
+    }
+
+    public int getRevokedTokenCount() {
+        return revokedTokens.size();
+    }
+
+    public int getCutoffCount() {
+        return cutoffs.size();
+    }
+
+    private boolean isIssuedBeforeCutoff(long userId, long issuedAtMillis) {
+        if (cutoffs.isEmpty()) {
+            return false;
+        }
+        Long cutoff = cutoffs.get(userId);
+        return cutoff != null && issuedAtMillis < cutoff;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.revocation.tokens", this, TokenRevocationIndex::getRevokedTokenCount)
+                .description("메모리에 보관 중인 폐기된 토큰(jti) 수")
+                .register(registry);
+        Gauge.builder("jwt.revocation.cutoffs", this, TokenRevocationIndex::getCutoffCount)
+                .description("토큰 cutoff 가 설정된 유저 수")
+                .register(registry);
+    }
+}
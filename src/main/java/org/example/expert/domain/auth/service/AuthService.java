@@ -1,37 +1,50 @@
 package org.example.expert.domain.auth.service;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.AsyncPasswordEncoder;
 import org.example.expert.config.JwtUtil;
-import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerBusyException;
+import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final AsyncPasswordEncoder asyncPasswordEncoder;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // BCrypt 해싱을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 실행합니다.
+    // 조회와 저장은 리포지토리 호출마다 짧은 트랜잭션으로 처리합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest signupRequest) {
 
         if (userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
+        String encodedPassword = asyncPasswordEncoder.encode(signupRequest.getPassword());
 
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
@@ -43,21 +56,78 @@ public class AuthService {
         User savedUser = userRepository.save(newUser);
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+        String refreshToken = jwtUtil.createRefreshToken(savedUser.getId());
 
-        return new SignupResponse(bearerToken);
+        return new SignupResponse(bearerToken, refreshToken);
     }
 
+    // signup 과 같이 해싱은 트랜잭션 밖에서 하고, 재해싱 결과만 짧은 트랜잭션으로 저장합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
-        if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
+        if (!asyncPasswordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 현재 cost 정책 밖의 해시는 평문 비밀번호를 알고 있는 로그인 시점에 다시 해싱해 둡니다.
+        // 해싱 풀이 바쁘면 재해싱은 다음 로그인으로 미루고, 이미 비밀번호가 확인된 로그인은 그대로 성공시킵니다.
+        if (asyncPasswordEncoder.needsRehash(user.getPassword())) {
+            try {
+                String rehashed = asyncPasswordEncoder.rehash(signinRequest.getPassword(), user.getPassword());
+                savePasswordIfUnchanged(user.getId(), user.getPassword(), rehashed);
+            } catch (ServerBusyException | ServerException e) {
+                log.warn("비밀번호 재해싱을 건너뜁니다. userId={}, reason={}", user.getId(), e.getMessage());
+            }
+        }
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String refreshToken = jwtUtil.createRefreshToken(user.getId());
+
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    // refresh 토큰은 한 번만 쓸 수 있습니다. 사용한 토큰은 폐기하고 새 access/refresh 토큰을 발급합니다.
+    // 이미 사용한 refresh 토큰이 다시 들어오면 탈취된 것으로 보고 유저의 모든 토큰을 폐기합니다. (예외가 나도 커밋)
+    @Transactional(noRollbackFor = AuthException.class)
+    public TokenRefreshResponse refresh(TokenRefreshRequest tokenRefreshRequest) {
+        Claims claims = jwtUtil.parseRefreshToken(tokenRefreshRequest.getRefreshToken());
+        long userId = Long.parseLong(claims.getSubject());
+        String jti = claims.getId();
+
+        if (tokenRevocationService.isTokenRevoked(jti)) {
+            throw reusedRefreshToken(userId);
+        }
+        if (tokenRevocationService.isRevoked(userId, JwtUtil.getIssuedAtMillis(claims), jti)) {
+            throw new AuthException("폐기된 refresh 토큰입니다.");
+        }
+
+        // 권한이 바뀌었을 수 있으므로 토큰에 담을 정보는 DB 에서 다시 읽습니다.
+        User user = userRepository.findById(userId).orElseThrow(
+                () -> new AuthException("가입되지 않은 유저입니다."));
+
+        // 메모리 인덱스를 통과했어도 DB 에 먼저 기록된 jti 이면 재사용입니다. (다른 인스턴스나 동시 요청이 먼저 사용)
+        if (!tokenRevocationService.revokeTokenOnce(jti, userId, claims.getExpiration().toInstant())) {
+            throw reusedRefreshToken(userId);
+        }
+
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String refreshToken = jwtUtil.createRefreshToken(user.getId());
+
+        return new TokenRefreshResponse(bearerToken, refreshToken);
+    }
+
+    // 해싱하는 사이에 비밀번호가 바뀌었으면(다른 요청의 비밀번호 변경) 그 변경을 덮어쓰지 않습니다.
+    private void savePasswordIfUnchanged(long userId, String verifiedPassword, String newPassword) {
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(userId)
+                .filter(user -> user.getPassword().equals(verifiedPassword))
+                .ifPresent(user -> user.changePassword(newPassword)));
+    }
 
-        return new SigninResponse(bearerToken);
+    private AuthException reusedRefreshToken(long userId) {
+        tokenRevocationService.revokeAllTokens(userId);
+        return new AuthException("이미 사용된 refresh 토큰입니다.");
     }
 }
@@ -0,0 +1,147 @@
+package org.example.expert.domain.auth.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.entity.RevokedToken;
+import org.example.expert.domain.auth.entity.UserTokenCutoff;
+import org.example.expert.domain.auth.repository.RevokedTokenRepository;
+import org.example.expert.domain.auth.repository.UserTokenCutoffRepository;
+import org.example.expert.domain.auth.revocation.TokenRevocationIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+// 토큰 폐기를 테이블에 저장하고 TokenRevocationIndex 에 반영합니다.
+// 인덱스는 시작 시 테이블에서 다시 만들고, 다른 인스턴스에서 폐기한 내용은 주기적으로 가져옵니다.
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserTokenCutoffRepository userTokenCutoffRepository;
+    private final TokenRevocationIndex tokenRevocationIndex;
+    private final long maxTokenLifetimeSeconds;
+    private final long syncOverlapMillis;
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    public TokenRevocationService(
+            RevokedTokenRepository revokedTokenRepository,
+            UserTokenCutoffRepository userTokenCutoffRepository,
+            TokenRevocationIndex tokenRevocationIndex,
+            @Value("${jwt.refresh-token.ttl-ms:1209600000}") long refreshTokenTtlMillis,
+            @Value("${jwt.revocation.sync-interval-ms:10000}") long syncIntervalMillis
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userTokenCutoffRepository = userTokenCutoffRepository;
+        this.tokenRevocationIndex = tokenRevocationIndex;
+        // refresh 토큰이 가장 오래 살아 있는 토큰입니다.
+        this.maxTokenLifetimeSeconds = TimeUnit.MILLISECONDS.toSeconds(refreshTokenTtlMillis);
+        // 늦게 커밋된 다른 인스턴스의 기록을 놓치지 않도록 동기화 구간을 조금씩 겹칩니다.
+        this.syncOverlapMillis = syncIntervalMillis;
+    }
+
+    // 토큰 하나를 폐기합니다. (refresh 토큰 교체)
+    // 이미 폐기된 jti 이면 false 를 반환합니다. 메모리 인덱스가 아직 모르는 경우(다른 인스턴스, 동시 요청)도
+    // revoked_tokens 의 기본키가 한 번만 통과시키므로, 같은 토큰으로는 한 요청만 true 를 받습니다.
+    @Transactional
+    public boolean revokeTokenOnce(String jti, long userId, Instant expiresAt) {
+        boolean inserted = revokedTokenRepository.insertIfAbsent(jti, userId, toLocalDateTime(expiresAt), LocalDateTime.now());
+        afterCommit(() -> tokenRevocationIndex.revokeToken(jti, expiresAt.getEpochSecond()));
+        return inserted;
+    }
+
+    // 지금까지 발급된 유저의 모든 토큰을 폐기합니다. (권한 변경, 비밀번호 변경, refresh 토큰 재사용 감지)
+    @Transactional
+    public void revokeAllTokens(long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        userTokenCutoffRepository.findById(userId).ifPresentOrElse(
+                cutoff -> cutoff.moveTo(now),
+                () -> userTokenCutoffRepository.save(new UserTokenCutoff(userId, now))
+        );
+        afterCommit(() -> tokenRevocationIndex.revokeTokensIssuedBefore(userId, toEpochMilli(now)));
+    }
+
+    public boolean isTokenRevoked(String jti) {
+        return tokenRevocationIndex.isTokenRevoked(jti);
+    }
+
+    public boolean isRevoked(long userId, long issuedAt, String jti) {
+        return tokenRevocationIndex.isRevoked(userId, issuedAt, jti);
+    }
+
+    // 요청을 받기 전에 인덱스를 채우도록 빈 초기화 시점에 불러옵니다.
+    @PostConstruct
+    public void load() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.findAllByExpiresAtAfter(now)
+                .forEach(this::addToIndex);
+        userTokenCutoffRepository.findAllByNotBeforeGreaterThanEqual(now.minusSeconds(maxTokenLifetimeSeconds))
+                .forEach(this::addToIndex);
+        lastSyncedAt = now;
+        log.info("토큰 폐기 목록을 불러왔습니다. tokens={}, cutoffs={}",
+                tokenRevocationIndex.getRevokedTokenCount(), tokenRevocationIndex.getCutoffCount());
+    }
+
+    @Scheduled(
+            initialDelayString = "${jwt.revocation.sync-interval-ms:10000}",
+            fixedDelayString = "${jwt.revocation.sync-interval-ms:10000}"
+    )
+    public void sync() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime since = lastSyncedAt.minusNanos(TimeUnit.MILLISECONDS.toNanos(syncOverlapMillis));
+            revokedTokenRepository.findAllByRevokedAtGreaterThanEqual(since).forEach(this::addToIndex);
+            userTokenCutoffRepository.findAllByNotBeforeGreaterThanEqual(since).forEach(this::addToIndex);
+            lastSyncedAt = now;
+
+            tokenRevocationIndex.prune(toEpochSecond(now), maxTokenLifetimeSeconds);
+            revokedTokenRepository.deleteExpired(now);
+        } catch (RuntimeException e) {
+            // 동기화에 실패하면 다음 주기에 같은 구간부터 다시 가져옵니다.
+            log.warn("토큰 폐기 목록 동기화에 실패했습니다.", e);
+        }
+    }
+
+    private void addToIndex(RevokedToken revokedToken) {
+        tokenRevocationIndex.revokeToken(revokedToken.getJti(), toEpochSecond(revokedToken.getExpiresAt()));
+    }
+
+    private void addToIndex(UserTokenCutoff cutoff) {
+        tokenRevocationIndex.revokeTokensIssuedBefore(cutoff.getUserId(), toEpochMilli(cutoff.getNotBefore()));
+    }
+
+    // 메모리 인덱스는 커밋된 뒤에만 바꿉니다. 롤백된 폐기가 DB 에는 없고 인덱스에만 남지 않도록 합니다.
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
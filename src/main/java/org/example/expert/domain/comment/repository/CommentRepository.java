@@ -1,14 +1,49 @@
 package org.example.expert.domain.comment.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
     List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId")
+    List<CommentResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // 커서(마지막으로 받은 댓글 id) 이후의 댓글을 DTO 로 바로 조회
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.todo.id = :todoId AND c.id > :cursor " +
+            "ORDER BY c.id ASC")
+    List<CommentResponse> findPageByTodoIdAfter(
+            @Param("todoId") Long todoId,
+            @Param("cursor") Long cursor,
+            Limit limit
+    );
+
+    // 영속성 컨텍스트에 엔티티를 쌓지 않고 fetch size 단위로 읽어 내려가는 스트림 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.todo.id = :todoId " +
+            "ORDER BY c.id ASC")
+    Stream<CommentResponse> streamByTodoId(@Param("todoId") Long todoId);
+
+    // 일정 삭제 시 댓글을 엔티티로 읽지 않고 DELETE 한 번으로 지웁니다. 쓰기 지연된 변경은 먼저 flush 합니다.
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.todo.id = :todoId")
+    int deleteAllByTodoIdInBulk(@Param("todoId") Long todoId);
 }
@@ -7,30 +7,39 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.validator.TodoValidator;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
+    // 커서 페이지 한 번에 읽는 최대 댓글 수 (일정 커서 조회와 같습니다.)
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final TodoValidator todoValidator;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+        // 존재 여부만 확인하고 연관관계에는 조회 없이 프록시를 사용합니다.
+        todoValidator.validateExists(todoId);
+        Todo todo = todoRepository.getReferenceById(todoId);
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
@@ -48,18 +57,29 @@ public class CommentService {
     }
 
     public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+        return commentRepository.findResponsesByTodoId(todoId);
+    }
+
+    public CursorResponse<CommentResponse> getCommentsByCursor(long todoId, Long cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부를 COUNT 없이 확인하기 위해 하나 더 조회
+        long afterId = cursor == null ? 0L : cursor;
+        List<CommentResponse> comments = commentRepository.findPageByTodoIdAfter(todoId, afterId, Limit.of(size + 1));
+
+        boolean hasNext = comments.size() > size;
+        List<CommentResponse> contents = hasNext ? comments.subList(0, size) : comments;
+        String nextCursor = hasNext ? String.valueOf(contents.get(contents.size() - 1).getId()) : null;
+
+        return new CursorResponse<>(contents, nextCursor, hasNext);
+    }
 
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+    // 전체 목록을 메모리에 올리지 않고 한 건씩 consumer 에 전달합니다.
+    public void streamComments(long todoId, Consumer<CommentResponse> consumer) {
+        try (Stream<CommentResponse> comments = commentRepository.streamByTodoId(todoId)) {
+            comments.forEach(consumer);
         }
-        return dtoList;
     }
 }
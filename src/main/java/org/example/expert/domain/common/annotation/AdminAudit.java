@@ -0,0 +1,12 @@
+package org.example.expert.domain.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 관리자 API 접근 기록 대상. 컨트롤러 클래스에 붙이면 모든 핸들러 메서드가 기록됩니다.
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdminAudit {
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> contents;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public CursorResponse(List<T> contents, String nextCursor, boolean hasNext) {
+        this.contents = contents;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
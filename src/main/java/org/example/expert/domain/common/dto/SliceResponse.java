@@ -0,0 +1,23 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SliceResponse<T> {
+
+    private final List<T> contents;
+    private final int page;
+    private final int size;
+    private final boolean hasNext;
+    private final Long approximateTotalElements; // 요청하지 않았거나 아직 집계되지 않은 경우 null
+
+    public SliceResponse(List<T> contents, int page, int size, boolean hasNext, Long approximateTotalElements) {
+        this.contents = contents;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.approximateTotalElements = approximateTotalElements;
+    }
+}
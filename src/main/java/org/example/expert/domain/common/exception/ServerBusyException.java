@@ -0,0 +1,8 @@
+package org.example.expert.domain.common.exception;
+
+public class ServerBusyException extends RuntimeException {
+
+    public ServerBusyException(String message) {
+        super(message);
+    }
+}
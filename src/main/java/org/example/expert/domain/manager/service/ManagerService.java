@@ -3,13 +3,15 @@ package org.example.expert.domain.manager.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
-import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.validator.TodoValidator;
+import org.example.expert.domain.user.cache.UserSummaryCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -18,7 +20,12 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,59 +34,81 @@ public class ManagerService {
 
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
-    private final TodoRepository todoRepository;
+    private final TodoValidator todoValidator;
+    private final UserSummaryCache userSummaryCache;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        Todo todo = todoValidator.getExistingTodo(todoId);
 
         if (todo.getUser() == null) {
             throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
         }
 
-        User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
+        UserResponse managerUser = userSummaryCache.get(managerSaveRequest.getManagerUserId())
                 .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
 
         if (ObjectUtils.nullSafeEquals(user.getId(), managerUser.getId())) {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
+        // 존재 여부는 캐시로 확인했으므로 연관관계 설정에는 조회 없이 프록시만 사용합니다.
+        Manager newManagerUser = new Manager(userRepository.getReferenceById(managerUser.getId()), todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
 
-        return new ManagerSaveResponse(
-                savedManagerUser.getId(),
-                new UserResponse(managerUser.getId(), managerUser.getEmail())
-        );
+        return new ManagerSaveResponse(savedManagerUser.getId(), managerUser);
     }
 
-    public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
-
-        List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
-            ));
+    // 유저 존재 여부는 IN 쿼리 한 번으로 확인하고, 담당자는 saveAll 로 JDBC batch insert 합니다.
+    @Transactional
+    public List<ManagerSaveResponse> saveManagers(AuthUser authUser, long todoId, ManagerBulkSaveRequest managerBulkSaveRequest) {
+        Todo todo = todoValidator.getExistingTodo(todoId);
+
+        if (todo.getUser() == null) {
+            throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
+        }
+
+        Set<Long> managerUserIds = new LinkedHashSet<>(managerBulkSaveRequest.getManagerUserIds());
+        if (managerUserIds.contains(authUser.getId())) {
+            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+        }
+
+        Map<Long, UserResponse> managerUsers = userRepository.findResponsesByIdIn(managerUserIds).stream()
+                .collect(Collectors.toMap(UserResponse::getId, Function.identity()));
+        if (managerUsers.size() != managerUserIds.size()) {
+            List<Long> missingUserIds = managerUserIds.stream()
+                    .filter(id -> !managerUsers.containsKey(id))
+                    .toList();
+            throw new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다. id: " + missingUserIds);
+        }
+
+        List<Manager> newManagers = new ArrayList<>(managerUserIds.size());
+        for (Long managerUserId : managerUserIds) {
+            newManagers.add(new Manager(userRepository.getReferenceById(managerUserId), todo));
+        }
+        List<Manager> savedManagers = managerRepository.saveAll(newManagers);
+
+        List<ManagerSaveResponse> responses = new ArrayList<>(savedManagers.size());
+        for (Manager savedManager : savedManagers) {
+            responses.add(new ManagerSaveResponse(savedManager.getId(), managerUsers.get(savedManager.getUser().getId())));
         }
-        return dtoList;
+        return responses;
+    }
+
+    public List<ManagerResponse> getManagers(long todoId) {
+        todoValidator.validateExists(todoId);
+
+        return managerRepository.findResponsesByTodoId(todoId);
     }
 
     @Transactional
     public void deleteManager(long userId, long todoId, long managerId) {
-        User user = userRepository.findById(userId)
+        UserResponse user = userSummaryCache.get(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        Todo todo = todoValidator.getExistingTodo(todoId);
 
         if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
             throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
@@ -4,6 +4,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
@@ -11,6 +14,7 @@ import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,6 +30,8 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // 전체 개수가 필요한 기존 클라이언트를 위해 Page(목록 + COUNT 두 번의 쿼리)를 그대로 반환합니다.
+    // 목록 화면처럼 자주 호출하는 곳은 쿼리 한 번으로 끝나는 /todos/slice 를 사용합니다.
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
@@ -34,8 +40,38 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    @GetMapping("/todos/slice")
+    public ResponseEntity<SliceResponse<TodoResponse>> getTodoSlice(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return ResponseEntity.ok(todoService.getTodoSlice(page, size, withTotal));
+    }
+
+    @GetMapping("/todos/cursor")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
+    }
+
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId
+    ) {
+        todoService.deleteTodo(authUser, todoId);
+    }
+
+    // 일정이 바뀌지 않았으면 modified_at 만 읽는 probe 쿼리 한 번으로 304 를 반환합니다.
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        TodoVersion version = todoService.getTodoVersion(todoId);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
 }
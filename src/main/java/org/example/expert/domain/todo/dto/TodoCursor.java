@@ -0,0 +1,45 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 일정 목록 커서 페이지네이션에 사용하는 (modifiedAt, id) 커서
+// 클라이언트에는 Base64 URL 인코딩된 불투명한 문자열로만 노출합니다.
+@Getter
+public class TodoCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime modifiedAt;
+    private final Long id;
+
+    public TodoCursor(LocalDateTime modifiedAt, Long id) {
+        this.modifiedAt = modifiedAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = modifiedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new InvalidRequestException("잘못된 커서입니다.");
+            }
+            LocalDateTime modifiedAt = LocalDateTime.parse(raw.substring(0, delimiterIndex));
+            Long id = Long.parseLong(raw.substring(delimiterIndex + 1));
+            return new TodoCursor(modifiedAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+// 조건부 GET(If-None-Match / If-Modified-Since) 에 사용하는 strong ETag 와 Last-Modified 값
+@Getter
+public class TodoVersion {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final String eTag;
+    private final long lastModified; // epoch millis, 알 수 없으면 -1
+
+    private TodoVersion(String eTag, long lastModified) {
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    // 단건: (id, modifiedAt)
+    public static TodoVersion ofTodo(long todoId, LocalDateTime modifiedAt) {
+        return new TodoVersion(
+                "\"todo-" + todoId + "-" + toMicros(modifiedAt) + "\"",
+                toEpochMillis(modifiedAt)
+        );
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime == null ? 0L : ChronoUnit.MICROS.between(EPOCH, dateTime);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? -1L : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
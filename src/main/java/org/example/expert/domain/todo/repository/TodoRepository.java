@@ -1,12 +1,18 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
@@ -14,10 +20,55 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
     Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
 
+    // 읽기 전용 조회는 엔티티 대신 응답 DTO 로 바로 조회 (영속성 컨텍스트 관리 비용 제거)
+    @Query(value = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoResponse> findTodoResponses(Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u WHERE t.id = :todoId")
+    Optional<TodoResponse> findTodoResponseById(@Param("todoId") Long todoId);
+
+    // Slice 반환 시 COUNT 쿼리 없이 size + 1 건만 조회해 다음 페이지 여부를 판단
+    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
+    Slice<Todo> findSliceByOrderByModifiedAtDesc(Pageable pageable);
+
+    // 커서 페이지네이션 첫 페이지 (todos(modified_at, id) 인덱스를 역순으로 탐색)
+    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findFirstPageByCursor(Limit limit);
+
+    // 커서 이후의 페이지를 OFFSET 없이 seek 방식으로 조회
+    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u " +
+            "WHERE t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findNextPageByCursor(
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
     @Query("SELECT t FROM Todo t " +
             "LEFT JOIN FETCH t.user " +
             "WHERE t.id = :todoId")
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
-    int countById(Long todoId);
+    // 존재 확인용: 행을 읽거나 개수를 세지 않고 PK 인덱스에서 일치하는 id 가 있는지만 확인합니다.
+    @Query("SELECT CASE WHEN EXISTS (SELECT 1 FROM Todo t WHERE t.id = :todoId) THEN TRUE ELSE FALSE END")
+    boolean existsTodoById(@Param("todoId") Long todoId);
+
+    // 조건부 GET 용 probe 쿼리: 본문(제목, 내용, 작성자, 날씨)을 읽지 않고 변경 여부만 확인합니다.
+    @Query("SELECT t.modifiedAt FROM Todo t WHERE t.id = :todoId")
+    Optional<LocalDateTime> findModifiedAtById(@Param("todoId") Long todoId);
+
+    // 삭제 권한 확인용으로 작성자 id 만 조회
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findUserIdById(@Param("todoId") Long todoId);
+
+    // 벌크 DELETE 는 영속성 컨텍스트를 거치지 않으므로, 남아 있는 엔티티가 삭제된 상태와 어긋나지 않도록 비웁니다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.id = :todoId")
+    int deleteByIdInBulk(@Param("todoId") Long todoId);
 }
@@ -0,0 +1,35 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 목록 조회마다 COUNT 쿼리를 실행하지 않도록 전체 일정 수를 주기적으로 집계해 둡니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCountProvider {
+
+    private final TodoRepository todoRepository;
+
+    private volatile Long approximateTotal;
+
+    public Long getApproximateTotal() {
+        return approximateTotal;
+    }
+
+    @Scheduled(
+            initialDelayString = "${todo.count.initial-delay-ms:0}",
+            fixedDelayString = "${todo.count.refresh-interval-ms:60000}"
+    )
+    public void refresh() {
+        try {
+            approximateTotal = todoRepository.count();
+        } catch (RuntimeException e) {
+            // 집계에 실패하면 이전 값을 그대로 사용합니다.
+            log.warn("일정 수 집계에 실패했습니다.", e);
+        }
+    }
+}
@@ -1,35 +1,54 @@
 package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.client.WeatherClient;
+import org.example.expert.client.WeatherProvider;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.validator.TodoValidator;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    // 커서 페이지 한 번에 읽는 최대 일정 수 (담당자 일괄 등록의 최대 건수와 같습니다.)
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
-    private final WeatherClient weatherClient;
+    private final WeatherProvider weatherProvider;
+    private final TodoCountProvider todoCountProvider;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final TodoValidator todoValidator;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        String weather = weatherProvider.getTodayWeather();
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -38,6 +57,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoValidator.invalidate(savedTodo.getId());
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -51,9 +71,15 @@ public class TodoService {
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        return todoRepository.findTodoResponses(pageable);
+    }
+
+    public SliceResponse<TodoResponse> getTodoSlice(int page, int size, boolean withTotal) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        Slice<Todo> todos = todoRepository.findSliceByOrderByModifiedAtDesc(pageable);
 
-        return todos.map(todo -> new TodoResponse(
+        List<TodoResponse> contents = todos.map(todo -> new TodoResponse(
                 todo.getId(),
                 todo.getTitle(),
                 todo.getContents(),
@@ -61,23 +87,76 @@ public class TodoService {
                 new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
                 todo.getCreatedAt(),
                 todo.getModifiedAt()
-        ));
+        )).getContent();
+
+        Long approximateTotal = withTotal ? todoCountProvider.getApproximateTotal() : null;
+
+        return new SliceResponse<>(contents, page, size, todos.hasNext(), approximateTotal);
+    }
+
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부를 COUNT 없이 확인하기 위해 하나 더 조회
+        Limit limit = Limit.of(size + 1);
+
+        List<Todo> todos;
+        if (cursor == null || cursor.isBlank()) {
+            todos = todoRepository.findFirstPageByCursor(limit);
+        } else {
+            TodoCursor todoCursor = TodoCursor.decode(cursor);
+            todos = todoRepository.findNextPageByCursor(todoCursor.getModifiedAt(), todoCursor.getId(), limit);
+        }
+
+        boolean hasNext = todos.size() > size;
+        List<Todo> pageTodos = hasNext ? todos.subList(0, size) : todos;
+
+        List<TodoResponse> contents = pageTodos.stream()
+                .map(todo -> new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt()
+                ))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Todo last = pageTodos.get(pageTodos.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new CursorResponse<>(contents, nextCursor, hasNext);
+    }
+
+    public TodoVersion getTodoVersion(long todoId) {
+        return todoRepository.findModifiedAtById(todoId)
+                .map(modifiedAt -> TodoVersion.ofTodo(todoId, modifiedAt))
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
     }
 
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
+        return todoRepository.findTodoResponseById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
 
-        User user = todo.getUser();
+    // 댓글 수와 관계없이 DELETE 3번으로 일정과 댓글, 담당자를 지웁니다.
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        Long ownerId = todoRepository.findUserIdById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), ownerId)) {
+            throw new InvalidRequestException("일정을 만든 유저만 삭제할 수 있습니다.");
+        }
+
+        commentRepository.deleteAllByTodoIdInBulk(todoId);
+        managerRepository.deleteAllByTodoIdInBulk(todoId);
+        todoRepository.deleteByIdInBulk(todoId);
     }
 }
@@ -0,0 +1,98 @@
+package org.example.expert.domain.todo.validator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+// 일정 존재 여부 확인을 한 곳에서 처리합니다.
+// 1. 최근에 없다고 확인된 id 는 짧은 TTL 동안 기억해 두고 DB 를 거치지 않고 거절합니다. (id 를 훑는 요청 대응)
+// 2. 2차 캐시에 있는 일정은 DB 를 거치지 않고 존재한다고 판단합니다.
+// 3. 그 외에는 엔티티를 읽지 않는 EXISTS 쿼리로 확인합니다.
+@Component
+public class TodoValidator implements MeterBinder {
+
+    private static final Boolean MISSING = Boolean.TRUE;
+
+    private final TodoRepository todoRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Cache<Long, Boolean> missingTodoIds;
+
+    public TodoValidator(
+            TodoRepository todoRepository,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${todo.missing-cache.maximum-size:100000}") long maximumSize,
+            @Value("${todo.missing-cache.ttl-ms:5000}") long ttlMillis
+    ) {
+        this.todoRepository = todoRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.missingTodoIds = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+    }
+
+    // 연관관계 설정처럼 존재 여부만 필요하고 엔티티는 필요 없는 경우에 사용합니다.
+    public void validateExists(long todoId) {
+        rejectIfKnownMissing(todoId);
+        if (entityManagerFactory.getCache().contains(Todo.class, todoId)) {
+            return;
+        }
+        if (!todoRepository.existsTodoById(todoId)) {
+            throw notFound(todoId);
+        }
+    }
+
+    // 일정 엔티티가 필요한 경우에 사용합니다. 조회는 2차 캐시를 거칩니다.
+    public Todo getExistingTodo(long todoId) {
+        rejectIfKnownMissing(todoId);
+        return todoRepository.findById(todoId).orElseThrow(() -> notFound(todoId));
+    }
+
+    // 새 일정이 저장되면 그 id 에 대해 남아 있을 수 있는 '없음' 기록을 지웁니다.
+    // 커밋 전 다른 요청이 다시 '없음' 으로 기록하지 않도록 커밋 후에 한 번 더 제거합니다.
+    public void invalidate(long todoId) {
+        missingTodoIds.invalidate(todoId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    missingTodoIds.invalidate(todoId);
+                }
+            });
+        }
+    }
+
+    public long getRejectedCount() {
+        return missingTodoIds.stats().hitCount();
+    }
+
+    private void rejectIfKnownMissing(long todoId) {
+        if (missingTodoIds.getIfPresent(todoId) != null) {
+            throw new InvalidRequestException("Todo not found");
+        }
+    }
+
+    private InvalidRequestException notFound(long todoId) {
+        missingTodoIds.put(todoId, MISSING);
+        return new InvalidRequestException("Todo not found");
+    }
+
+    // 히트 수가 DB 를 거치지 않고 거절한 요청 수입니다. (cache=todo.missing)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, missingTodoIds, "todo.missing");
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.domain.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 유저의 id, email 만 담은 요약 정보를 TTL 과 최대 크기 제한을 두고 메모리에 보관합니다.
+// 비밀번호 해시를 포함한 User 엔티티 전체를 읽지 않도록 조회는 projection 쿼리로 수행합니다.
+// 존재하지 않는 유저는 캐시하지 않으므로 새로 가입한 유저는 바로 조회됩니다.
+@Component
+public class UserSummaryCache implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserResponse> cache;
+
+    public UserSummaryCache(
+            UserRepository userRepository,
+            @Value("${user.summary-cache.maximum-size:10000}") long maximumSize,
+            @Value("${user.summary-cache.ttl-ms:600000}") long ttlMillis
+    ) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<UserResponse> get(long userId) {
+        return Optional.ofNullable(cache.get(userId, id -> userRepository.findResponseById(id).orElse(null)));
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 전 다른 요청이 옛 값을 다시 채우지 않도록 커밋 후에 한 번 더 제거합니다.
+    public void invalidate(long userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    // 히트/미스, 크기, 제거 횟수를 cache.* 메트릭(cache=user.summary)으로 노출합니다.
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "user.summary");
+    }
+}
@@ -3,14 +3,28 @@ package org.example.expert.domain.user.enums;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public enum UserRole {
     ADMIN, USER;
 
+    private static final Map<String, UserRole> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(Enum::name, Function.identity()));
+
+    // 대소문자를 구분하지 않습니다. 대부분의 입력은 대문자 그대로이므로 먼저 변환 없이 찾습니다.
     public static UserRole of(String role) {
-        return Arrays.stream(UserRole.values())
-                .filter(r -> r.name().equalsIgnoreCase(role))
-                .findFirst()
-                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UerRole"));
+        if (role != null) {
+            UserRole userRole = BY_NAME.get(role);
+            if (userRole == null) {
+                userRole = BY_NAME.get(role.toUpperCase(Locale.ROOT));
+            }
+            if (userRole != null) {
+                return userRole;
+            }
+        }
+        throw new InvalidRequestException("유효하지 않은 UerRole");
     }
 }
@@ -1,7 +1,9 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.cache.UserSummaryCache;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -14,10 +16,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserAdminService {
 
     private final UserRepository userRepository;
+    private final UserSummaryCache userSummaryCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        userSummaryCache.invalidate(userId);
+        // 이전 권한이 담긴 토큰으로 더 이상 접근할 수 없도록 지금까지 발급된 토큰을 모두 폐기합니다.
+        tokenRevocationService.revokeAllTokens(userId);
     }
 }
@@ -1,14 +1,18 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.AsyncPasswordEncoder;
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.cache.UserSummaryCache;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -16,14 +20,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final AsyncPasswordEncoder asyncPasswordEncoder;
+    private final UserSummaryCache userSummaryCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final TransactionTemplate transactionTemplate;
 
     public UserResponse getUser(long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
-        return new UserResponse(user.getId(), user.getEmail());
+        return userSummaryCache.get(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
     }
 
-    @Transactional
+    // BCrypt 해싱(최대 세 번)을 기다리는 동안 DB 커넥션을 잡고 있지 않도록, 조회와 해싱은 트랜잭션 밖에서 하고
+    // 새 비밀번호 저장과 토큰 폐기만 한 트랜잭션으로 묶습니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
 
         validatePassword(userChangePasswordRequest);
@@ -31,15 +39,27 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
+        if (asyncPasswordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
             throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
         }
 
-        if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
+        if (!asyncPasswordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        String encodedPassword = asyncPasswordEncoder.encode(userChangePasswordRequest.getNewPassword());
+        String verifiedPassword = user.getPassword();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 해싱하는 사이에 다른 요청이 비밀번호를 바꿨다면, 확인한 기존 비밀번호는 더 이상 맞지 않습니다.
+            User current = userRepository.findById(userId)
+                    .filter(found -> found.getPassword().equals(verifiedPassword))
+                    .orElseThrow(() -> new InvalidRequestException("잘못된 비밀번호입니다."));
+            current.changePassword(encodedPassword);
+            userSummaryCache.invalidate(userId);
+            // 비밀번호를 바꾸면 다른 기기에 남아 있는 토큰도 모두 폐기합니다.
+            tokenRevocationService.revokeAllTokens(userId);
+        });
     }
 
     private void validatePassword(UserChangePasswordRequest userChangePasswordRequest) {
@@ -0,0 +1,8 @@
+-- 목록 정렬/커서 조회: ORDER BY modified_at DESC, id DESC 를 정렬 없이 인덱스 순서대로 읽습니다.
+create index idx_todos_modified_at_id on todos (modified_at desc, id desc);
+
+-- 일정별 댓글 조회, 커서(id) 페이지네이션, 일괄 삭제
+create index idx_comments_todo_id_id on comments (todo_id, id);
+
+-- 일정별 담당자 조회, 일괄 삭제
+create index idx_managers_todo_id_user_id on managers (todo_id, user_id);
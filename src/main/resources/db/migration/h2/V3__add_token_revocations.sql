@@ -0,0 +1,21 @@
+-- 폐기된 토큰(jti). 토큰이 만료되면 더 이상 검사할 필요가 없으므로 expires_at 이 지난 행은 정리됩니다.
+create table revoked_tokens (
+    jti        varchar(36) not null,
+    user_id    bigint not null,
+    expires_at timestamp(6) not null,
+    revoked_at timestamp(6) not null,
+    primary key (jti)
+);
+
+create index idx_revoked_tokens_revoked_at on revoked_tokens (revoked_at);
+create index idx_revoked_tokens_expires_at on revoked_tokens (expires_at);
+
+-- 유저별 토큰 무효화 시각. 이 시각 이전에 발급된 토큰은 모두 거절합니다. (권한 변경, 비밀번호 변경)
+create table user_token_cutoffs (
+    user_id    bigint not null,
+    not_before timestamp(6) not null,
+    primary key (user_id),
+    constraint fk_user_token_cutoffs_user foreign key (user_id) references users (id)
+);
+
+create index idx_user_token_cutoffs_not_before on user_token_cutoffs (not_before);
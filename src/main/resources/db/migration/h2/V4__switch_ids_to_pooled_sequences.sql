@@ -0,0 +1,24 @@
+-- 엔티티 id 를 allocationSize 50 의 pooled 시퀀스로 발급합니다.
+-- pooled optimizer 는 시퀀스 값 N 을 받으면 (N - 49) ~ N 을 사용하므로, 기존 데이터가 있는 테이블은
+-- 가장 큰 id + 50 에서 시작해야 첫 블록이 기존 id 와 겹치지 않습니다.
+-- (기존 id 컬럼의 identity 는 남겨 두지만, Hibernate 가 항상 id 를 지정해 insert 하므로 사용되지 않습니다.)
+create sequence users_seq start with 1 increment by 50;
+alter sequence users_seq restart with (select coalesce(max(id), 0) + 50 from users);
+create sequence todos_seq start with 1 increment by 50;
+alter sequence todos_seq restart with (select coalesce(max(id), 0) + 50 from todos);
+create sequence comments_seq start with 1 increment by 50;
+alter sequence comments_seq restart with (select coalesce(max(id), 0) + 50 from comments);
+create sequence managers_seq start with 1 increment by 50;
+alter sequence managers_seq restart with (select coalesce(max(id), 0) + 50 from managers);
+
+-- 관리자 API 감사 로그 (기존 스키마에 없던 테이블)
+create sequence admin_audit_logs_seq start with 1 increment by 50;
+
+create table admin_audit_logs (
+    id           bigint not null,
+    user_id      bigint,
+    http_method  varchar(255),
+    request_url  varchar(255),
+    requested_at timestamp(6),
+    primary key (id)
+);
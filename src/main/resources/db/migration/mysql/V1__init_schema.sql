@@ -0,0 +1,46 @@
+-- 기존(Flyway 도입 전) 스키마. 엔티티가 IDENTITY(auto_increment)로 id 를 발급하던 시점의 테이블입니다.
+-- 이미 이 스키마가 있는 DB 는 baseline-on-migrate 로 이 버전을 기준점으로 삼고 V2 부터 적용합니다.
+
+create table users (
+    id          bigint not null auto_increment,
+    email       varchar(255),
+    password    varchar(255),
+    user_role   enum ('ADMIN', 'USER'),
+    created_at  datetime(6),
+    modified_at datetime(6),
+    primary key (id),
+    constraint uk_users_email unique (email)
+) engine = InnoDB;
+
+create table todos (
+    id          bigint not null auto_increment,
+    title       varchar(255),
+    contents    varchar(255),
+    weather     varchar(255),
+    user_id     bigint not null,
+    created_at  datetime(6),
+    modified_at datetime(6),
+    primary key (id),
+    constraint fk_todos_user foreign key (user_id) references users (id)
+) engine = InnoDB;
+
+create table comments (
+    id          bigint not null auto_increment,
+    contents    varchar(255),
+    todo_id     bigint not null,
+    user_id     bigint not null,
+    created_at  datetime(6),
+    modified_at datetime(6),
+    primary key (id),
+    constraint fk_comments_todo foreign key (todo_id) references todos (id),
+    constraint fk_comments_user foreign key (user_id) references users (id)
+) engine = InnoDB;
+
+create table managers (
+    id      bigint not null auto_increment,
+    todo_id bigint not null,
+    user_id bigint not null,
+    primary key (id),
+    constraint fk_managers_todo foreign key (todo_id) references todos (id),
+    constraint fk_managers_user foreign key (user_id) references users (id)
+) engine = InnoDB;
@@ -0,0 +1,26 @@
+-- 엔티티 id 를 allocationSize 50 의 pooled 시퀀스로 발급합니다.
+-- MySQL 에는 시퀀스가 없으므로 Hibernate 가 사용하는 <테이블>_seq 테이블로 시퀀스를 흉내 냅니다.
+-- pooled optimizer 는 시퀀스 값 N 을 받으면 (N - 49) ~ N 을 사용하므로, 기존 데이터가 있는 테이블은
+-- 가장 큰 id + 50 에서 시작해야 첫 블록이 기존 id 와 겹치지 않습니다.
+-- (기존 id 컬럼의 auto_increment 는 남겨 두지만, Hibernate 가 항상 id 를 지정해 insert 하므로 사용되지 않습니다.)
+create table users_seq (next_val bigint) engine = InnoDB;
+insert into users_seq select coalesce(max(id), 0) + 50 from users;
+create table todos_seq (next_val bigint) engine = InnoDB;
+insert into todos_seq select coalesce(max(id), 0) + 50 from todos;
+create table comments_seq (next_val bigint) engine = InnoDB;
+insert into comments_seq select coalesce(max(id), 0) + 50 from comments;
+create table managers_seq (next_val bigint) engine = InnoDB;
+insert into managers_seq select coalesce(max(id), 0) + 50 from managers;
+
+-- 관리자 API 감사 로그 (기존 스키마에 없던 테이블)
+create table admin_audit_logs_seq (next_val bigint) engine = InnoDB;
+insert into admin_audit_logs_seq values (1);
+
+create table admin_audit_logs (
+    id           bigint not null,
+    user_id      bigint,
+    http_method  varchar(255),
+    request_url  varchar(255),
+    requested_at datetime(6),
+    primary key (id)
+) engine = InnoDB;
@@ -0,0 +1,73 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Spring Data 가 만든 실제 리포지토리 빈에 MetricsAspect 가 적용되는지 검사합니다.
+@DataJpaTest
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@Import({MetricsAspect.class, MetricsAspectRepositoryTest.MeterRegistryConfig.class})
+class MetricsAspectRepositoryTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    void 리포지토리_조회_시간과_행_수를_기록한다() {
+        // given
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        commentRepository.save(new Comment("comment1", user, todo));
+        commentRepository.save(new Comment("comment2", user, todo));
+
+        // when
+        commentRepository.findResponsesByTodoId(todo.getId());
+
+        // then
+        assertEquals(1, meterRegistry.get("app.repository")
+                .tag("class", "CommentRepository")
+                .tag("method", "findResponsesByTodoId")
+                .tag("exception", "none")
+                .timer().count());
+        assertEquals(2.0, meterRegistry.get("app.repository.rows")
+                .tag("class", "CommentRepository")
+                .tag("method", "findResponsesByTodoId")
+                .summary().totalAmount());
+        assertEquals(2, meterRegistry.get("app.repository")
+                .tag("class", "CommentRepository")
+                .tag("method", "save")
+                .timer().count());
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHashingPolicy;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.willThrow;
+
+@ExtendWith(MockitoExtension.class)
+class MetricsAspectTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MetricsAspect metricsAspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metricsAspect = new MetricsAspect(meterRegistry);
+    }
+
+    @Test
+    void 서비스_메서드_호출_시간을_기록한다() {
+        // given
+        CommentAdminService commentAdminService = proxy(new CommentAdminService(commentRepository));
+
+        // when
+        commentAdminService.deleteComment(1L);
+        commentAdminService.deleteComment(2L);
+
+        // then
+        assertEquals(2, meterRegistry.get("app.service")
+                .tag("class", "CommentAdminService")
+                .tag("method", "deleteComment")
+                .tag("exception", "none")
+                .timer().count());
+    }
+
+    @Test
+    void 서비스_예외는_예외_태그로_기록한다() {
+        // given
+        willThrow(new InvalidRequestException("Comment not found")).given(commentRepository).deleteById(1L);
+        CommentAdminService commentAdminService = proxy(new CommentAdminService(commentRepository));
+
+        // when
+        assertThrows(InvalidRequestException.class, () -> commentAdminService.deleteComment(1L));
+
+        // then
+        assertEquals(1, meterRegistry.get("app.service")
+                .tag("exception", "InvalidRequestException")
+                .timer().count());
+    }
+
+    @Test
+    void 비밀번호_해싱은_PasswordEncoder_의_타이머로만_기록한다() {
+        // given
+        PasswordEncoder passwordEncoder = proxy(new PasswordEncoder(PasswordHashingPolicy.fixed(4)));
+
+        // when
+        String encodedPassword = passwordEncoder.encode("password");
+        passwordEncoder.matches("password", encodedPassword);
+
+        // then
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(metricsAspect);
+        // 스프링과 같이 인터페이스(MeterBinder 등)를 구현한 빈도 클래스 기반으로 프록시합니다.
+        proxyFactory.setProxyTargetClass(true);
+        return (T) proxyFactory.getProxy();
+    }
+}
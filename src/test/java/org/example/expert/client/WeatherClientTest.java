@@ -0,0 +1,142 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherClientTest {
+
+    private static final String FEED = "[{\"date\":\"01-01\",\"weather\":\"Sunny\"}]";
+
+    private final AtomicLong latencyMillis = new AtomicLong();
+    private final AtomicInteger statusCode = new AtomicInteger(200);
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private HttpServer stubServer;
+    private SimpleMeterRegistry meterRegistry;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 지연과 오류 응답을 흉내 내는 로컬 stub 서버
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            try {
+                Thread.sleep(latencyMillis.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = FEED.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(statusCode.get(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            } catch (IOException ignored) {
+                // 클라이언트가 타임아웃으로 연결을 끊은 경우
+            }
+        });
+        stubServer.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        String baseUrl = "http://localhost:" + stubServer.getAddress().getPort();
+        weatherClient = new WeatherClient(new RestTemplateBuilder(), meterRegistry, baseUrl, 500, 1000, 2, 300, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    void 정상_응답을_날짜별_Map으로_반환한다() {
+        // when
+        Map<String, String> weatherByDate = weatherClient.getWeathersByDate();
+
+        // then
+        assertEquals("Sunny", weatherByDate.get("01-01"));
+        assertEquals(CircuitBreaker.State.CLOSED, weatherClient.getCircuitState());
+    }
+
+    @Test
+    void 가상_스레드_모드에서도_가상_스레드에서_호출할_수_있다() throws Exception {
+        // given
+        String baseUrl = "http://localhost:" + stubServer.getAddress().getPort();
+        WeatherClient virtualThreadClient =
+                new WeatherClient(new RestTemplateBuilder(), meterRegistry, baseUrl, 500, 1000, 2, 300, true);
+
+        // when
+        CompletableFuture<Map<String, String>> result = new CompletableFuture<>();
+        Thread.ofVirtual().start(() -> {
+            try {
+                result.complete(virtualThreadClient.getWeathersByDate());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        // then
+        assertEquals("Sunny", result.get(5, TimeUnit.SECONDS).get("01-01"));
+    }
+
+    // CI 처럼 부하가 있는 환경에서도 정상 응답이 타임아웃에 걸리지 않도록 read timeout 은 넉넉히 두고,
+    // 지연은 그보다 충분히 길게 주어 타임아웃 적용 여부만 확인합니다.
+    @Test
+    void 읽기_타임아웃을_넘기면_실패한다() {
+        // given
+        latencyMillis.set(3000);
+
+        // when & then
+        long start = System.nanoTime();
+        assertThrows(RuntimeException.class, () -> weatherClient.getWeathersByDate());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(elapsedMillis < 2500, "read timeout 이 적용되지 않았습니다: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void 연속_실패하면_회로가_열리고_호출을_차단한다() {
+        // given
+        statusCode.set(500);
+        assertThrows(RuntimeException.class, () -> weatherClient.getWeathersByDate());
+        assertThrows(RuntimeException.class, () -> weatherClient.getWeathersByDate());
+        int requestsBeforeOpen = requestCount.get();
+
+        // when & then
+        assertEquals(CircuitBreaker.State.OPEN, weatherClient.getCircuitState());
+        assertThrows(CircuitBreaker.CircuitBreakerOpenException.class, () -> weatherClient.getWeathersByDate());
+        assertEquals(requestsBeforeOpen, requestCount.get());
+        assertEquals(1.0, meterRegistry.get("weather.client.calls").tag("outcome", "rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("weather.client.circuit.state").gauge().value());
+    }
+
+    @Test
+    void 차단_시간이_지나면_시험_호출_성공_시_회로가_닫힌다() throws InterruptedException {
+        // given
+        statusCode.set(500);
+        assertThrows(RuntimeException.class, () -> weatherClient.getWeathersByDate());
+        assertThrows(RuntimeException.class, () -> weatherClient.getWeathersByDate());
+        statusCode.set(200);
+
+        // when
+        Thread.sleep(400);
+        Map<String, String> weatherByDate = weatherClient.getWeathersByDate();
+
+        // then
+        assertEquals("Sunny", weatherByDate.get("01-01"));
+        assertEquals(CircuitBreaker.State.CLOSED, weatherClient.getCircuitState());
+    }
+}
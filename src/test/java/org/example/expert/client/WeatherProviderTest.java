@@ -0,0 +1,90 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherProviderTest {
+
+    private final AtomicReference<String> feed = new AtomicReference<>();
+    private final AtomicInteger statusCode = new AtomicInteger(200);
+    private HttpServer stubServer;
+    private WeatherProvider weatherProvider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 외부 API 대신 로컬에서 날씨 데이터를 내려주는 stub 서버
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/f-api/weather.json", exchange -> {
+            byte[] body = feed.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(statusCode.get(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubServer.start();
+
+        String baseUrl = "http://localhost:" + stubServer.getAddress().getPort();
+        WeatherClient weatherClient = new WeatherClient(
+                new RestTemplateBuilder(), new SimpleMeterRegistry(), baseUrl, 1000, 1000, 3, 60000, false
+        );
+        weatherProvider = new WeatherProvider(weatherClient, "Unknown");
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    void 갱신_전에는_기본값을_반환한다() {
+        // when & then
+        assertEquals("Unknown", weatherProvider.getTodayWeather());
+    }
+
+    @Test
+    void 갱신된_데이터에서_오늘_날씨를_조회한다() {
+        // given
+        feed.set("[{\"date\":\"" + today() + "\",\"weather\":\"Sunny\"},{\"date\":\"13-01\",\"weather\":\"Rainy\"}]");
+
+        // when
+        weatherProvider.refresh();
+
+        // then
+        assertEquals("Sunny", weatherProvider.getTodayWeather());
+    }
+
+    @Test
+    void 갱신에_실패하면_기존_데이터를_유지한다() {
+        // given
+        feed.set("[{\"date\":\"" + today() + "\",\"weather\":\"Sunny\"}]");
+        weatherProvider.refresh();
+        statusCode.set(500);
+        feed.set("{}");
+
+        // when
+        weatherProvider.refresh();
+
+        // then
+        assertEquals("Sunny", weatherProvider.getTodayWeather());
+    }
+
+    private String today() {
+        return LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+    }
+}
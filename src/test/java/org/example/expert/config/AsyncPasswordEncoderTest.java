@@ -0,0 +1,68 @@
+package org.example.expert.config;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.example.expert.domain.common.exception.ServerBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncPasswordEncoderTest {
+
+    private AsyncPasswordEncoder asyncPasswordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        asyncPasswordEncoder.shutdown();
+    }
+
+    @Test
+    void 전용_스레드_풀에서_해싱과_검증을_수행한다() {
+        // given
+        asyncPasswordEncoder = new AsyncPasswordEncoder(new PasswordEncoder(PasswordHashingPolicy.fixed(BCrypt.MIN_COST)), 1, 4, 5000);
+
+        // when
+        String encodedPassword = asyncPasswordEncoder.encode("testPassword");
+
+        // then
+        assertTrue(asyncPasswordEncoder.matches("testPassword", encodedPassword));
+        assertFalse(asyncPasswordEncoder.matches("otherPassword", encodedPassword));
+    }
+
+    @Test
+    void 대기열이_가득_차면_즉시_거절한다() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder(PasswordHashingPolicy.fixed(BCrypt.MIN_COST)) {
+            @Override
+            public String encode(String rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        asyncPasswordEncoder = new AsyncPasswordEncoder(blockingEncoder, 1, 1, 5000);
+
+        CompletableFuture<String> running = asyncPasswordEncoder.encodeAsync("first");
+        started.await();
+        CompletableFuture<String> queued = asyncPasswordEncoder.encodeAsync("second");
+
+        // when & then
+        ServerBusyException exception = assertThrows(ServerBusyException.class, () ->
+                asyncPasswordEncoder.encodeAsync("third")
+        );
+        assertEquals("요청이 많아 비밀번호를 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", exception.getMessage());
+
+        release.countDown();
+        assertNotNull(running.join());
+        assertNotNull(queued.join());
+    }
+}
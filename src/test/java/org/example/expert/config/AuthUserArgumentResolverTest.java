@@ -0,0 +1,86 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AuthUserArgumentResolverTest {
+
+    private final AuthUserArgumentResolver resolver = new AuthUserArgumentResolver();
+
+    @Test
+    void Auth_AuthUser_파라미터만_지원하고_결과를_캐시한다() throws NoSuchMethodException {
+        // given
+        Method method = SampleController.class.getDeclaredMethod("handle", AuthUser.class, String.class);
+        MethodParameter authUserParameter = spy(new MethodParameter(method, 0));
+        MethodParameter otherParameter = spy(new MethodParameter(method, 1));
+
+        // when
+        boolean first = resolver.supportsParameter(authUserParameter);
+        boolean second = resolver.supportsParameter(authUserParameter);
+        boolean other = resolver.supportsParameter(otherParameter);
+        resolver.supportsParameter(otherParameter);
+
+        // then
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(other);
+        verify(authUserParameter, times(1)).getParameterAnnotation(Auth.class);
+        verify(otherParameter, times(1)).getParameterAnnotation(Auth.class);
+    }
+
+    @Test
+    void Auth와_AuthUser_타입이_함께_사용되지_않으면_예외가_발생한다() throws NoSuchMethodException {
+        // given
+        Method method = SampleController.class.getDeclaredMethod("invalid", String.class);
+
+        // when & then
+        AuthException exception = assertThrows(AuthException.class,
+                () -> resolver.supportsParameter(new MethodParameter(method, 0)));
+        assertEquals("@Auth와 AuthUser 타입은 함께 사용되어야 합니다.", exception.getMessage());
+    }
+
+    @Test
+    void JwtFilter가_넣어_둔_AuthUser를_그대로_반환한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "user@example.com", UserRole.USER);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, authUser);
+
+        // when
+        Object resolved = resolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+
+        // then
+        assertSame(authUser, resolved);
+    }
+
+    @Test
+    void 인증_정보가_없으면_예외가_발생한다() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // when & then
+        assertThrows(AuthException.class,
+                () -> resolver.resolveArgument(null, null, new ServletWebRequest(request), null));
+    }
+
+    @SuppressWarnings("unused")
+    private static class SampleController {
+
+        void handle(@Auth AuthUser authUser, String other) {
+        }
+
+        void invalid(@Auth String authUser) {
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.expert.domain.auth.revocation.TokenRevocationIndex;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// jjwt 로 발급한 토큰에 대해 Hs256TokenVerifier(JwtUtil.verifyToken) 와 jjwt 파서의 결과가 같은지 확인합니다.
+class Hs256TokenVerifierTest {
+
+    private static final byte[] SECRET = "test-secret-key-test-secret-key-test".getBytes();
+
+    private TokenRevocationIndex revocationIndex;
+    private JwtUtil jwtUtil;
+    private Key key;
+    private JwtParser jjwtParser;
+    private Hs256TokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        revocationIndex = new TokenRevocationIndex(1000);
+        jwtUtil = new JwtUtil(revocationIndex);
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(SECRET));
+        jwtUtil.init();
+
+        key = Keys.hmacShaKeyFor(SECRET);
+        jjwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        verifier = new Hs256TokenVerifier(key, revocationIndex);
+    }
+
+    @Test
+    void JwtUtil이_발급한_토큰은_jjwt와_같은_AuthUser를_반환한다() {
+        // given
+        String[] emails = {"user@example.com", "a.b+c@sub.example.co.kr", "한글@example.com"};
+        long[] userIds = {1L, 42L, Long.MAX_VALUE / 10};
+
+        for (UserRole userRole : UserRole.values()) {
+            for (String email : emails) {
+                for (long userId : userIds) {
+                    String token = jwtUtil.substringToken(jwtUtil.createToken(userId, email, userRole));
+
+                    // when
+                    AuthUser fast = verifier.verify(token);
+
+                    // then
+                    AuthUser expected = toAuthUser(jjwtParser.parseClaimsJws(token).getBody());
+                    assertNotNull(fast, token);
+                    assertEquals(expected.getId(), fast.getId());
+                    assertEquals(expected.getEmail(), fast.getEmail());
+                    assertEquals(expected.getUserRole(), fast.getUserRole());
+                }
+            }
+        }
+    }
+
+    @Test
+    void 서명이_변조된_토큰은_jjwt와_같이_SignatureException을_던진다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // when & then
+        assertSameOutcome(tampered, SignatureException.class);
+    }
+
+    @Test
+    void claims가_변조된_토큰은_jjwt와_같이_SignatureException을_던진다() {
+        // given
+        String userToken = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+        String adminToken = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.ADMIN));
+        String[] user = userToken.split("\\.");
+        String[] admin = adminToken.split("\\.");
+        String forged = user[0] + "." + admin[1] + "." + user[2];
+
+        // when & then
+        assertSameOutcome(forged, SignatureException.class);
+    }
+
+    @Test
+    void 다른_키로_서명한_토큰은_jjwt와_같이_SignatureException을_던진다() {
+        // given
+        Key otherKey = Keys.hmacShaKeyFor("other-secret-key-other-secret-key-!!".getBytes());
+        String token = issue(otherKey, new Date(System.currentTimeMillis() + 60_000));
+
+        // when & then
+        assertSameOutcome(token, SignatureException.class);
+    }
+
+    @Test
+    void 만료된_토큰은_jjwt와_같이_ExpiredJwtException을_던진다() {
+        // given
+        String token = issue(key, new Date(System.currentTimeMillis() - 1_000));
+
+        // when & then
+        assertSameOutcome(token, ExpiredJwtException.class);
+    }
+
+    @Test
+    void 서명이_없는_토큰은_jjwt와_같이_UnsupportedJwtException을_던진다() {
+        // given
+        String token = Jwts.builder()
+                .setSubject("1")
+                .claim("email", "user@example.com")
+                .claim("userRole", UserRole.ADMIN)
+                .compact();
+
+        // when & then
+        assertSameOutcome(token, UnsupportedJwtException.class);
+    }
+
+    @Test
+    void 형식이_잘못된_토큰은_jjwt와_같이_MalformedJwtException을_던진다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+
+        // when & then
+        assertSameOutcome("not-a-jwt", MalformedJwtException.class);
+        assertSameOutcome(token + ".extra", MalformedJwtException.class);
+    }
+
+    @Test
+    void 고정된_형태가_아닌_토큰은_jjwt로_검증한다() {
+        // given
+        String withTypeHeader = Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .setSubject("7")
+                .claim("email", "user@example.com")
+                .claim("userRole", UserRole.USER)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+        String withNestedClaim = Jwts.builder()
+                .setSubject("7")
+                .claim("email", "user@example.com")
+                .claim("userRole", UserRole.USER)
+                .claim("scopes", new String[]{"todo", "comment"})
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        for (String token : new String[]{withTypeHeader, withNestedClaim}) {
+            assertNull(verifier.verify(token));
+            AuthUser authUser = jwtUtil.verifyToken(token);
+            assertEquals(7L, authUser.getId());
+            assertEquals(UserRole.USER, authUser.getUserRole());
+        }
+    }
+
+    @Test
+    void 폐기된_jti의_토큰은_RevokedTokenException을_던진다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+        String other = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+        Claims claims = jjwtParser.parseClaimsJws(token).getBody();
+
+        // when
+        revocationIndex.revokeToken(claims.getId(), claims.getExpiration().getTime() / 1000);
+
+        // then
+        assertThrows(RevokedTokenException.class, () -> verifier.verify(token));
+        assertThrows(RevokedTokenException.class, () -> jwtUtil.verifyToken(token));
+        assertEquals(1L, verifier.verify(other).getId());
+    }
+
+    @Test
+    void cutoff_이전에_발급된_토큰은_고정된_형태가_아니어도_RevokedTokenException을_던진다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(7L, "user@example.com", UserRole.ADMIN));
+        String withTypeHeader = Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .setSubject("7")
+                .claim("email", "user@example.com")
+                .claim("userRole", UserRole.ADMIN)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+        String otherUser = jwtUtil.substringToken(jwtUtil.createToken(8L, "other@example.com", UserRole.ADMIN));
+
+        // when
+        // iatMs 가 없는 토큰은 iat 초의 마지막 밀리초에 발급된 것으로 보므로 1초 뒤를 cutoff 로 둡니다.
+        revocationIndex.revokeTokensIssuedBefore(7L, System.currentTimeMillis() + 1_000);
+
+        // then
+        assertThrows(RevokedTokenException.class, () -> jwtUtil.verifyToken(token));
+        assertThrows(RevokedTokenException.class, () -> jwtUtil.verifyToken(withTypeHeader));
+        assertEquals(8L, jwtUtil.verifyToken(otherUser).getId());
+    }
+
+    @Test
+    void cutoff_와_같은_밀리초에_발급된_토큰은_폐기되지_않는다() {
+        // given
+        long now = System.currentTimeMillis();
+        revocationIndex.revokeTokensIssuedBefore(7L, now);
+
+        // when
+        String token = jwtUtil.substringToken(jwtUtil.createToken(7L, "user@example.com", UserRole.ADMIN));
+
+        // then
+        assertEquals(7L, verifier.verify(token).getId());
+        assertEquals(7L, jwtUtil.verifyToken(token).getId());
+    }
+
+    @Test
+    void 가상_스레드에서_동시에_검증해도_다른_요청의_결과가_섞이지_않는다() throws Exception {
+        // given
+        int requests = 2_000;
+        String[] tokens = new String[requests];
+        for (int i = 0; i < requests; i++) {
+            tokens[i] = jwtUtil.substringToken(jwtUtil.createToken(i + 1L, "user" + i + "@example.com", UserRole.USER));
+        }
+        String tampered = tokens[0].substring(0, tokens[0].length() - 2) + (tokens[0].endsWith("A") ? "BB" : "AA");
+
+        // when
+        List<Future<AuthUser>> results = new ArrayList<>();
+        List<Future<SignatureException>> failures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                String token = tokens[i];
+                results.add(executor.submit(() -> verifier.verify(token)));
+                // 예외로 끝난 검증이 반납한 Mac 도 다음 검증에 그대로 쓸 수 있어야 합니다.
+                failures.add(executor.submit(() -> assertThrows(SignatureException.class, () -> verifier.verify(tampered))));
+            }
+        }
+
+        // then
+        for (int i = 0; i < requests; i++) {
+            AuthUser authUser = results.get(i).get();
+            assertEquals(i + 1L, authUser.getId());
+            assertEquals("user" + i + "@example.com", authUser.getEmail());
+            assertNotNull(failures.get(i).get());
+        }
+    }
+
+    private void assertSameOutcome(String token, Class<? extends Exception> expected) {
+        assertThrows(expected, () -> jjwtParser.parseClaimsJws(token));
+        assertThrows(expected, () -> jwtUtil.verifyToken(token));
+    }
+
+    private String issue(Key signingKey, Date expiration) {
+        return Jwts.builder()
+                .setSubject("1")
+                .claim("email", "user@example.com")
+                .claim("userRole", UserRole.USER)
+                .setExpiration(expiration)
+                .setIssuedAt(new Date(expiration.getTime() - 60_000))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private AuthUser toAuthUser(Claims claims) {
+        return new AuthUser(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                UserRole.valueOf(claims.get("userRole", String.class))
+        );
+    }
+}
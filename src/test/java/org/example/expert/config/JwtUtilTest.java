@@ -0,0 +1,82 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.revocation.TokenRevocationIndex;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(new TokenRevocationIndex(1000));
+        String secretKey = Base64.getEncoder().encodeToString("test-secret-key-test-secret-key-test".getBytes());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", secretKey);
+        jwtUtil.init();
+    }
+
+    @Test
+    void 토큰의_claims를_반환한다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+
+        // when
+        Claims claims = jwtUtil.extractClaims(token);
+
+        // then
+        assertEquals("1", claims.getSubject());
+        assertEquals("user@example.com", claims.get("email", String.class));
+    }
+
+    @Test
+    void 서명이_잘못된_토큰은_SignatureException을_던진다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // when & then
+        assertThrows(SignatureException.class, () -> jwtUtil.extractClaims(tampered));
+    }
+
+    @Test
+    void access_토큰마다_다른_jti가_들어간다() {
+        // given
+        String first = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+        String second = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+
+        // when
+        Claims firstClaims = jwtUtil.extractClaims(first);
+        Claims secondClaims = jwtUtil.extractClaims(second);
+
+        // then
+        assertNotNull(firstClaims.getId());
+        assertNotEquals(firstClaims.getId(), secondClaims.getId());
+        assertNotNull(firstClaims.getIssuedAt());
+    }
+
+    @Test
+    void refresh_토큰과_access_토큰은_서로_대신_쓸_수_없다() {
+        // given
+        String refreshToken = jwtUtil.createRefreshToken(1L);
+        String accessToken = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+
+        // when
+        Claims claims = jwtUtil.parseRefreshToken(refreshToken);
+
+        // then
+        assertEquals("1", claims.getSubject());
+        assertNotNull(claims.getId());
+        assertThrows(SignatureException.class, () -> jwtUtil.verifyToken(refreshToken));
+        assertThrows(AuthException.class, () -> jwtUtil.parseRefreshToken(accessToken));
+    }
+}
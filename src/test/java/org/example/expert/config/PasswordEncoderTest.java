@@ -1,18 +1,21 @@
 package org.example.expert.config;
 
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
     private PasswordEncoder passwordEncoder;
 
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = new PasswordEncoder(PasswordHashingPolicy.fixed(5));
+    }
+
     @Test
     void matches_메서드가_정상적으로_동작한다() {
         // given
@@ -25,4 +28,48 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 해시에는_정책의_cost가_기록된다() {
+        // given
+        String rawPassword = "testPassword";
+
+        // when
+        String encodedPassword = passwordEncoder.encode(rawPassword);
+
+        // then
+        assertEquals(5, PasswordEncoder.costOf(encodedPassword));
+        assertFalse(passwordEncoder.needsRehash(encodedPassword));
+    }
+
+    @Test
+    void 정책_범위를_벗어난_cost의_해시는_다시_해싱_대상이다() {
+        // given
+        String weaker = BCrypt.withDefaults().hashToString(4, "testPassword".toCharArray());
+        String oneAbove = BCrypt.withDefaults().hashToString(6, "testPassword".toCharArray());
+        String twoAbove = BCrypt.withDefaults().hashToString(7, "testPassword".toCharArray());
+
+        // when & then
+        assertTrue(passwordEncoder.needsRehash(weaker));
+        assertFalse(passwordEncoder.needsRehash(oneAbove));
+        assertTrue(passwordEncoder.needsRehash(twoAbove));
+        assertTrue(passwordEncoder.needsRehash("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    void 재해싱_횟수는_판단이_아니라_실제_재해싱에서_센다() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        passwordEncoder.bindTo(registry);
+        String weaker = BCrypt.withDefaults().hashToString(4, "testPassword".toCharArray());
+        passwordEncoder.needsRehash(weaker);
+        passwordEncoder.needsRehash(weaker);
+
+        // when
+        String rehashed = passwordEncoder.rehash("testPassword", weaker);
+
+        // then
+        assertEquals(5, PasswordEncoder.costOf(rehashed));
+        assertEquals(1.0, registry.get("password.hashing.rehash").tag("cost", "4").counter().count());
+    }
 }
@@ -0,0 +1,49 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.IntToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingPolicyTest {
+
+    // cost 4 에서 1ms, cost 가 1 오를 때마다 두 배가 되는 서버
+    private static final IntToLongFunction DOUBLING = cost -> 1_000_000L << (cost - 4);
+
+    @Test
+    void 목표_시간에_가장_가까운_cost를_고른다() {
+        // given
+        long target = 100_000_000L; // cost 10 = 64ms, cost 11 = 128ms
+
+        // when
+        int cost = PasswordHashingPolicy.calibrate(target, 4, 16, DOUBLING);
+
+        // then
+        assertEquals(11, cost);
+        assertEquals(10, PasswordHashingPolicy.calibrate(80_000_000L, 4, 16, DOUBLING));
+    }
+
+    @Test
+    void 측정한_cost는_최소_최대_범위를_벗어나지_않는다() {
+        // given
+        long target = 100_000_000L;
+
+        // when & then
+        assertEquals(12, PasswordHashingPolicy.calibrate(target, 12, 16, DOUBLING));
+        assertEquals(8, PasswordHashingPolicy.calibrate(target, 4, 8, DOUBLING));
+    }
+
+    @Test
+    void cost를_고정하면_측정하지_않고_그_cost를_사용한다() {
+        // given
+        PasswordHashingPolicy policy = new PasswordHashingPolicy(6, 100, 10, 14);
+
+        // when & then
+        assertEquals(6, policy.getCost());
+        assertTrue(policy.accepts(6));
+        assertTrue(policy.accepts(7));
+        assertFalse(policy.accepts(5));
+        assertFalse(policy.accepts(8));
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.expert.domain;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Flyway 도입 전부터 운영하던 DB(IDENTITY 로 id 를 발급한 기존 데이터가 있는 스키마)를 그대로 넘겨받는지 검사합니다.
+class FlywayBaselineTest {
+
+    @Test
+    void 기존_스키마는_V1_을_기준점으로_삼고_시퀀스는_기존_id_다음부터_발급한다() {
+        // given
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/h2")
+                .target("1").load().migrate();
+        jdbcTemplate.execute("drop table \"flyway_schema_history\"");
+        jdbcTemplate.update("insert into users (email, password, user_role) values ('a@a.com', 'pw', 'USER')");
+        jdbcTemplate.update("insert into users (id, email, password, user_role) values (120, 'b@b.com', 'pw', 'USER')");
+
+        // when
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/h2")
+                .baselineOnMigrate(true).baselineVersion("1").load().migrate();
+
+        // then
+        // pooled optimizer 는 시퀀스 값 N 에서 (N - 49) ~ N 을 쓰므로, 첫 블록의 시작이 기존 최대 id 바로 다음이어야 합니다.
+        long usersNext = jdbcTemplate.queryForObject("select next value for users_seq", Long.class);
+        long todosNext = jdbcTemplate.queryForObject("select next value for todos_seq", Long.class);
+        assertEquals(121, usersNext - 49);
+        assertEquals(1, todosNext - 49);
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from \"flyway_schema_history\" where \"type\" = 'BASELINE' and \"version\" = '1'", Integer.class));
+    }
+}
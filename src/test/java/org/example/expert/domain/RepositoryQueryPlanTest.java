@@ -0,0 +1,148 @@
+package org.example.expert.domain;
+
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.SqlRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Flyway 마이그레이션으로 만든 H2 스키마에서 리포지토리 쿼리의 실행 계획(EXPLAIN)을 검사합니다.
+// 실제로 실행된 SQL 을 StatementInspector 로 수집하므로, 쿼리가 바뀌어 인덱스를 타지 못하게 되면 실패합니다.
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        SqlRecorder.PROPERTY
+})
+class RepositoryQueryPlanTest {
+
+    private static final String TODO_SORT_INDEX = "IDX_TODOS_MODIFIED_AT_ID";
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void 일정_목록_조회는_modified_at_인덱스_순서로_읽는다() {
+        assertAll(
+                () -> assertIndexSorted(explain(() -> todoRepository.findAllByOrderByModifiedAtDesc(PageRequest.of(0, 10)))),
+                () -> assertIndexSorted(explain(() -> todoRepository.findTodoResponses(PageRequest.of(3, 10)))),
+                () -> assertIndexSorted(explain(() -> todoRepository.findSliceByOrderByModifiedAtDesc(PageRequest.of(3, 10)))),
+                () -> assertIndexSorted(explain(() -> todoRepository.findFirstPageByCursor(Limit.of(10)))),
+                () -> assertIndexSorted(explain(() ->
+                        todoRepository.findNextPageByCursor(LocalDateTime.now(), 1L, Limit.of(10))))
+        );
+    }
+
+    @Test
+    void 일정_단건_조회와_삭제는_전체_스캔을_하지_않는다() {
+        assertAll(
+                () -> assertNoTableScan(explain(() -> todoRepository.findTodoResponseById(1L))),
+                () -> assertNoTableScan(explain(() -> todoRepository.findByIdWithUser(1L))),
+                () -> assertNoTableScan(explain(() -> todoRepository.findModifiedAtById(1L))),
+                () -> assertNoTableScan(explain(() -> todoRepository.findUserIdById(1L))),
+                () -> assertNoTableScan(explain(() -> todoRepository.existsTodoById(1L))),
+                () -> assertNoTableScan(explain(() -> todoRepository.deleteByIdInBulk(1L)))
+        );
+    }
+
+    @Test
+    void 일정별_댓글_조회와_삭제는_todo_id_인덱스를_사용한다() {
+        assertAll(
+                () -> assertNoTableScan(explain(() -> commentRepository.findByTodoIdWithUser(1L))),
+                () -> assertNoTableScan(explain(() -> commentRepository.findResponsesByTodoId(1L))),
+                () -> assertNoTableScan(explain(() -> {
+                    try (Stream<?> stream = commentRepository.streamByTodoId(1L)) {
+                        stream.forEach(comment -> {});
+                    }
+                })),
+                () -> assertNoTableScan(explain(() -> commentRepository.deleteAllByTodoIdInBulk(1L))),
+                // 커서 조회는 (todo_id, id) 복합 인덱스로 범위 탐색까지 해야 합니다.
+                () -> assertUsesIndex(explain(() -> commentRepository.findPageByTodoIdAfter(1L, 0L, Limit.of(10))),
+                        "IDX_COMMENTS_TODO_ID_ID")
+        );
+    }
+
+    @Test
+    void 일정별_담당자_조회와_삭제는_todo_id_인덱스를_사용한다() {
+        assertAll(
+                () -> assertUsesIndex(explain(() -> managerRepository.findByTodoIdWithUser(1L)),
+                        "IDX_MANAGERS_TODO_ID_USER_ID"),
+                () -> assertUsesIndex(explain(() -> managerRepository.findResponsesByTodoId(1L)),
+                        "IDX_MANAGERS_TODO_ID_USER_ID"),
+                () -> assertNoTableScan(explain(() -> managerRepository.deleteAllByTodoIdInBulk(1L)))
+        );
+    }
+
+    @Test
+    void 유저_조회는_기본키나_email_유니크_인덱스를_사용한다() {
+        assertAll(
+                () -> assertNoTableScan(explain(() -> userRepository.findByEmail("a@a.com"))),
+                () -> assertNoTableScan(explain(() -> userRepository.existsByEmail("a@a.com"))),
+                () -> assertNoTableScan(explain(() -> userRepository.findResponseById(1L))),
+                () -> assertNoTableScan(explain(() -> userRepository.findResponsesByIdIn(Set.of(1L, 2L))))
+        );
+    }
+
+    private void assertIndexSorted(String plan) {
+        assertUsesIndex(plan, TODO_SORT_INDEX);
+        assertTrue(plan.contains("index sorted"), "인덱스 순서로 정렬하지 않습니다:\n" + plan);
+    }
+
+    private void assertUsesIndex(String plan, String indexName) {
+        assertNoTableScan(plan);
+        assertTrue(plan.contains(indexName), indexName + " 인덱스를 사용하지 않습니다:\n" + plan);
+    }
+
+    private void assertNoTableScan(String plan) {
+        assertFalse(plan.contains(".tableScan"), "전체 테이블 스캔이 발생합니다:\n" + plan);
+    }
+
+    // repositoryCall 이 실행한 SQL 들의 EXPLAIN 결과를 이어 붙여 반환합니다.
+    private String explain(Runnable repositoryCall) throws SQLException {
+        SqlRecorder.start();
+        repositoryCall.run();
+        List<String> statements = SqlRecorder.stop();
+        assertFalse(statements.isEmpty(), "실행된 SQL 이 없습니다.");
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        StringBuilder plans = new StringBuilder();
+        for (String sql : statements) {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                // H2 는 파라미터 값과 관계없이 계획을 세우므로 모두 null 로 바인딩합니다.
+                int parameterCount = explain.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    explain.setObject(i, null);
+                }
+                try (ResultSet resultSet = explain.executeQuery()) {
+                    resultSet.next();
+                    plans.append(resultSet.getString(1)).append('\n');
+                }
+            }
+        }
+        return plans.toString();
+    }
+}
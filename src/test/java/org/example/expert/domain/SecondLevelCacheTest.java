@@ -0,0 +1,140 @@
+package org.example.expert.domain;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 2차 캐시는 커밋 이후에 채워지고 갱신되므로 테스트 트랜잭션 없이 단계마다 트랜잭션을 커밋합니다.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private long userId;
+    private long todoId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User user = transaction.execute(status -> userRepository.save(new User("cache@a.com", "password", UserRole.USER)));
+        Todo todo = transaction.execute(status -> todoRepository.save(new Todo("title", "contents", "Sunny", user)));
+        userId = user.getId();
+        todoId = todo.getId();
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            managerRepository.deleteAllByTodoIdInBulk(todoId);
+            todoRepository.deleteByIdInBulk(todoId);
+            userRepository.deleteById(userId);
+        });
+    }
+
+    @Test
+    void 한번_조회한_일정은_이후_DB를_거치지_않고_조회된다() {
+        // given
+        transaction.executeWithoutResult(status -> todoRepository.findById(todoId).orElseThrow());
+        long statementCount = statistics.getPrepareStatementCount();
+
+        // when
+        Todo todo = transaction.execute(status -> todoRepository.findById(todoId).orElseThrow());
+
+        // then
+        assertEquals("title", todo.getTitle());
+        assertEquals(statementCount, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("todo").getHitCount());
+    }
+
+    @Test
+    void 한번_조회한_유저는_이후_DB를_거치지_않고_조회된다() {
+        // given
+        transaction.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow());
+        long statementCount = statistics.getPrepareStatementCount();
+
+        // when
+        User user = transaction.execute(status -> userRepository.findById(userId).orElseThrow());
+
+        // then
+        assertEquals("cache@a.com", user.getEmail());
+        assertEquals(statementCount, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("user").getHitCount());
+    }
+
+    @Test
+    void 일정을_수정하면_캐시된_값도_갱신된다() {
+        // given
+        transaction.executeWithoutResult(status -> todoRepository.findById(todoId).orElseThrow());
+
+        // when
+        transaction.executeWithoutResult(status ->
+                todoRepository.findById(todoId).orElseThrow().update("new title", "new contents"));
+
+        // then
+        Todo todo = transaction.execute(status -> todoRepository.findById(todoId).orElseThrow());
+        assertEquals("new title", todo.getTitle());
+    }
+
+    @Test
+    void 유저_권한을_변경하면_캐시된_값도_갱신된다() {
+        // given
+        transaction.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow());
+
+        // when
+        transaction.executeWithoutResult(status ->
+                userRepository.findById(userId).orElseThrow().updateRole(UserRole.ADMIN));
+
+        // then
+        User user = transaction.execute(status -> userRepository.findById(userId).orElseThrow());
+        assertEquals(UserRole.ADMIN, user.getUserRole());
+    }
+
+    @Test
+    void 벌크_삭제한_일정은_캐시에서도_조회되지_않는다() {
+        // given
+        transaction.executeWithoutResult(status -> todoRepository.findById(todoId).orElseThrow());
+
+        // when
+        transaction.executeWithoutResult(status -> {
+            managerRepository.deleteAllByTodoIdInBulk(todoId);
+            todoRepository.deleteByIdInBulk(todoId);
+        });
+
+        // then
+        assertTrue(transaction.execute(status -> todoRepository.findById(todoId)).isEmpty());
+    }
+}
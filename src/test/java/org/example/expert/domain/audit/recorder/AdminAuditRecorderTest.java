@@ -0,0 +1,74 @@
+package org.example.expert.domain.audit.recorder;
+
+import org.example.expert.domain.audit.entity.AdminAuditLog;
+import org.example.expert.domain.audit.repository.AdminAuditLogRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdminAuditRecorderTest {
+
+    @Mock
+    private AdminAuditLogRepository adminAuditLogRepository;
+
+    @Captor
+    private ArgumentCaptor<List<AdminAuditLog>> savedBatches;
+
+    @Test
+    void 기록한_이벤트를_배치로_저장한다() throws InterruptedException {
+        // given
+        List<AdminAuditLog> saved = new ArrayList<>();
+        willAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            return List.of();
+        }).given(adminAuditLogRepository).saveAll(anyList());
+        AdminAuditRecorder recorder = new AdminAuditRecorder(adminAuditLogRepository, 1024, 100, 10_000);
+        recorder.start();
+
+        // when
+        for (long i = 1; i <= 250; i++) {
+            recorder.record(i, "DELETE", "/admin/comments/" + i);
+        }
+        recorder.stop();
+
+        // then
+        assertEquals(250, saved.size());
+        assertEquals(1L, saved.get(0).getUserId());
+        assertEquals("DELETE", saved.get(0).getHttpMethod());
+        assertEquals("/admin/comments/1", saved.get(0).getRequestUrl());
+        assertNotNull(saved.get(0).getRequestedAt());
+    }
+
+    @Test
+    void 저장에_실패해도_writer_는_계속_동작한다() throws InterruptedException {
+        // given
+        given(adminAuditLogRepository.saveAll(anyList()))
+                .willThrow(new IllegalStateException("db down"))
+                .willReturn(List.of());
+        AdminAuditRecorder recorder = new AdminAuditRecorder(adminAuditLogRepository, 1024, 1, 10_000);
+        recorder.start();
+
+        // when
+        recorder.record(1L, "PATCH", "/admin/users/1");
+        recorder.record(1L, "PATCH", "/admin/users/2");
+        recorder.stop();
+
+        // then
+        verify(adminAuditLogRepository, atLeastOnce()).saveAll(savedBatches.capture());
+        assertEquals(2, savedBatches.getAllValues().size());
+    }
+}
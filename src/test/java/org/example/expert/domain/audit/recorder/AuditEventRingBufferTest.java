@@ -0,0 +1,102 @@
+package org.example.expert.domain.audit.recorder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditEventRingBufferTest {
+
+    @Test
+    void 발행한_순서대로_꺼낸다() {
+        // given
+        AuditEventRingBuffer ringBuffer = new AuditEventRingBuffer(4);
+        ringBuffer.tryPublish(1L, "DELETE", "/admin/comments/1", 100L);
+        ringBuffer.tryPublish(2L, "PATCH", "/admin/users/2", 200L);
+
+        // when
+        List<String> events = new ArrayList<>();
+        int drained = ringBuffer.drain((userId, httpMethod, requestUri, requestedAtMillis) ->
+                events.add(userId + " " + httpMethod + " " + requestUri + " " + requestedAtMillis), 10);
+
+        // then
+        assertEquals(2, drained);
+        assertEquals(List.of("1 DELETE /admin/comments/1 100", "2 PATCH /admin/users/2 200"), events);
+        assertEquals(0, ringBuffer.size());
+    }
+
+    @Test
+    void 버퍼가_가득_차면_이벤트를_버리고_개수를_센다() {
+        // given
+        AuditEventRingBuffer ringBuffer = new AuditEventRingBuffer(2);
+        assertTrue(ringBuffer.tryPublish(1L, "DELETE", "/admin/comments/1", 1L));
+        assertTrue(ringBuffer.tryPublish(1L, "DELETE", "/admin/comments/2", 2L));
+
+        // when
+        boolean published = ringBuffer.tryPublish(1L, "DELETE", "/admin/comments/3", 3L);
+
+        // then
+        assertFalse(published);
+        assertEquals(1, ringBuffer.getDroppedCount());
+
+        // 꺼낸 뒤에는 슬롯을 다시 사용할 수 있다.
+        ringBuffer.drain((userId, httpMethod, requestUri, requestedAtMillis) -> {}, 1);
+        assertTrue(ringBuffer.tryPublish(1L, "DELETE", "/admin/comments/4", 4L));
+    }
+
+    @Test
+    void capacity_는_2의_거듭제곱으로_올림한다() {
+        assertEquals(8, new AuditEventRingBuffer(5).capacity());
+        assertEquals(8, new AuditEventRingBuffer(8).capacity());
+    }
+
+    @Test
+    void 여러_스레드에서_동시에_발행해도_유실이나_중복이_없다() throws InterruptedException {
+        // given
+        int producers = 4;
+        int eventsPerProducer = 20_000;
+        AuditEventRingBuffer ringBuffer = new AuditEventRingBuffer(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            long producerId = p;
+            executor.execute(() -> {
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    // 소비자가 따라올 때까지 재시도합니다.
+                    while (!ringBuffer.tryPublish(producerId, "GET", "/admin", i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<String> received = new HashSet<>();
+        long[] lastSeen = new long[producers];
+        java.util.Arrays.fill(lastSeen, -1L);
+        while (received.size() < producers * eventsPerProducer) {
+            ringBuffer.drain((userId, httpMethod, requestUri, requestedAtMillis) -> {
+                assertTrue(received.add(userId + ":" + requestedAtMillis));
+                // 같은 생산자의 이벤트는 발행 순서를 유지한다.
+                assertTrue(requestedAtMillis > lastSeen[userId.intValue()]);
+                lastSeen[userId.intValue()] = requestedAtMillis;
+            }, 256);
+        }
+
+        // then
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(producers * eventsPerProducer, received.size());
+        assertEquals(0, ringBuffer.size());
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.UserTokenCutoff;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// refresh 토큰 재사용 판단은 revoked_tokens 의 기본키가 합니다.
+// 중복 INSERT 뒤에도 같은 트랜잭션에서 유저 토큰 전체 폐기를 기록하고 커밋할 수 있어야 하므로, 테스트 트랜잭션 없이 직접 커밋합니다.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RevokedTokenRepositoryTest {
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+    @Autowired
+    private UserTokenCutoffRepository userTokenCutoffRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        revokedTokenRepository.deleteAll();
+        userTokenCutoffRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void 이미_기록된_jti_는_false_를_반환하고_같은_트랜잭션은_그대로_커밋된다() {
+        // given
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusDays(1);
+        assertTrue(revokedTokenRepository.insertIfAbsent("jti-1", user.getId(), expiresAt, now));
+
+        // when
+        Boolean inserted = transactionTemplate.execute(status -> {
+            boolean result = revokedTokenRepository.insertIfAbsent("jti-1", user.getId(), expiresAt, now.plusSeconds(1));
+            userTokenCutoffRepository.save(new UserTokenCutoff(user.getId(), now.plusSeconds(1)));
+            return result;
+        });
+
+        // then
+        assertFalse(inserted);
+        assertTrue(userTokenCutoffRepository.findById(user.getId()).isPresent());
+        assertEquals(now.withNano(0), revokedTokenRepository.findById("jti-1").orElseThrow().getRevokedAt().withNano(0));
+    }
+}
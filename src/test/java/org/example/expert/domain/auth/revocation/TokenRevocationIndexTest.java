@@ -0,0 +1,72 @@
+package org.example.expert.domain.auth.revocation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationIndexTest {
+
+    private TokenRevocationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TokenRevocationIndex(1000);
+    }
+
+    @Test
+    void 폐기한_jti는_String과_byte_배열_모두에서_폐기된_것으로_본다() {
+        // given
+        String jti = UUID.randomUUID().toString();
+        byte[] payload = ("{\"jti\":\"" + jti + "\"}").getBytes(StandardCharsets.US_ASCII);
+
+        // when
+        index.revokeToken(jti, 2_000_000_000L);
+
+        // then
+        assertTrue(index.isTokenRevoked(jti));
+        assertTrue(index.isRevoked(1L, 100L, jti));
+        assertTrue(index.isRevoked(1L, 100L, payload, 8, jti.length()));
+        assertFalse(index.isTokenRevoked(UUID.randomUUID().toString()));
+        assertFalse(index.isRevoked(1L, 100L, payload, 8, 0));
+    }
+
+    @Test
+    void cutoff_보다_먼저_발급된_토큰만_폐기된_것으로_본다() {
+        // given
+        index.revokeTokensIssuedBefore(1L, 1_000L);
+
+        // when
+        index.revokeTokensIssuedBefore(1L, 900L);
+
+        // then
+        assertTrue(index.isRevoked(1L, 999L, (String) null));
+        assertFalse(index.isRevoked(1L, 1_000L, (String) null));
+        assertFalse(index.isRevoked(1L, 1_001L, (String) null));
+        assertFalse(index.isRevoked(2L, 999L, (String) null));
+    }
+
+    @Test
+    void 만료된_jti와_오래된_cutoff는_정리된다() {
+        // given
+        String expired = UUID.randomUUID().toString();
+        String alive = UUID.randomUUID().toString();
+        index.revokeToken(expired, 1_000L);
+        index.revokeToken(alive, 3_000L);
+        index.revokeTokensIssuedBefore(1L, 500_000L);
+        index.revokeTokensIssuedBefore(2L, 1_500_000L);
+
+        // when
+        index.prune(2_000L, 1_000L);
+
+        // then
+        assertFalse(index.isTokenRevoked(expired));
+        assertTrue(index.isTokenRevoked(alive));
+        assertEquals(1, index.getRevokedTokenCount());
+        assertEquals(1, index.getCutoffCount());
+        assertTrue(index.isRevoked(2L, 1_499_999L, (String) null));
+    }
+}
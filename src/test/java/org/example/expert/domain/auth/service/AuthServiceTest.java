@@ -1,13 +1,18 @@
 package org.example.expert.domain.auth.service;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.example.expert.config.JwtUtil;
-import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.AsyncPasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerBusyException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -15,8 +20,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Date;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,11 +40,17 @@ public class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private AsyncPasswordEncoder asyncPasswordEncoder;
 
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private AuthService authService;
 
@@ -62,7 +78,7 @@ public class AuthServiceTest {
         String token = "jwtToken";
 
         given(userRepository.existsByEmail(signupRequest.getEmail())).willReturn(false);
-        given(passwordEncoder.encode(signupRequest.getPassword())).willReturn(encodedPassword);
+        given(asyncPasswordEncoder.encode(signupRequest.getPassword())).willReturn(encodedPassword);
         given(userRepository.save(any(User.class))).willReturn(savedUser);
         given(jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getUserRole())).willReturn(token);
 
@@ -94,7 +110,7 @@ public class AuthServiceTest {
         User user = new User("test@example.com", "encodedPassword", UserRole.USER);
 
         given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
-        given(passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())).willReturn(false);
+        given(asyncPasswordEncoder.matches(signinRequest.getPassword(), user.getPassword())).willReturn(false);
 
         // when & then
         AuthException exception = assertThrows(AuthException.class, () ->
@@ -111,7 +127,7 @@ public class AuthServiceTest {
         String token = "jwtToken";
 
         given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
-        given(passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())).willReturn(true);
+        given(asyncPasswordEncoder.matches(signinRequest.getPassword(), user.getPassword())).willReturn(true);
         given(jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole())).willReturn(token);
 
         // when
@@ -121,4 +137,136 @@ public class AuthServiceTest {
         assertNotNull(response);
         assertEquals("jwtToken", response.getBearerToken());
     }
+
+    @Test
+    public void signin_저장된_해시가_cost_정책_밖이면_다시_해싱한다() {
+        // given
+        SigninRequest signinRequest = new SigninRequest("test@example.com", "password");
+        User user = new User("test@example.com", "oldHash", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
+        given(asyncPasswordEncoder.matches(signinRequest.getPassword(), "oldHash")).willReturn(true);
+        given(asyncPasswordEncoder.needsRehash("oldHash")).willReturn(true);
+        given(asyncPasswordEncoder.rehash(signinRequest.getPassword(), "oldHash")).willReturn("newHash");
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+
+        // when
+        authService.signin(signinRequest);
+
+        // then
+        assertEquals("newHash", user.getPassword());
+    }
+
+    @Test
+    public void signin_재해싱하는_사이에_비밀번호가_바뀌면_덮어쓰지_않는다() {
+        // given
+        SigninRequest signinRequest = new SigninRequest("test@example.com", "password");
+        User user = new User("test@example.com", "oldHash", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        User changed = new User("test@example.com", "changedHash", UserRole.USER);
+
+        given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
+        given(asyncPasswordEncoder.matches(signinRequest.getPassword(), "oldHash")).willReturn(true);
+        given(asyncPasswordEncoder.needsRehash("oldHash")).willReturn(true);
+        given(asyncPasswordEncoder.rehash(signinRequest.getPassword(), "oldHash")).willReturn("newHash");
+        given(userRepository.findById(1L)).willReturn(Optional.of(changed));
+
+        // when
+        authService.signin(signinRequest);
+
+        // then
+        assertEquals("changedHash", changed.getPassword());
+    }
+
+    @Test
+    public void signin_재해싱이_거절되어도_로그인은_성공한다() {
+        // given
+        SigninRequest signinRequest = new SigninRequest("test@example.com", "password");
+        User user = new User("test@example.com", "oldHash", UserRole.USER);
+
+        given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
+        given(asyncPasswordEncoder.matches(signinRequest.getPassword(), "oldHash")).willReturn(true);
+        given(asyncPasswordEncoder.needsRehash("oldHash")).willReturn(true);
+        given(asyncPasswordEncoder.rehash(signinRequest.getPassword(), "oldHash"))
+                .willThrow(new ServerBusyException("busy"));
+        given(jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole())).willReturn("jwtToken");
+
+        // when
+        SigninResponse response = authService.signin(signinRequest);
+
+        // then
+        assertEquals("jwtToken", response.getBearerToken());
+        assertEquals("oldHash", user.getPassword());
+    }
+
+    @Test
+    public void refresh_성공_사용한_토큰을_폐기하고_새_토큰을_반환한다() {
+        // given
+        Claims claims = refreshClaims(1L, "jti-1");
+        User user = new User("test@example.com", "encodedPassword", UserRole.ADMIN);
+
+        given(jwtUtil.parseRefreshToken("refreshToken")).willReturn(claims);
+        given(tokenRevocationService.isTokenRevoked("jti-1")).willReturn(false);
+        given(tokenRevocationService.isRevoked(eq(1L), anyLong(), eq("jti-1"))).willReturn(false);
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(tokenRevocationService.revokeTokenOnce("jti-1", 1L, claims.getExpiration().toInstant())).willReturn(true);
+        given(jwtUtil.createToken(user.getId(), user.getEmail(), UserRole.ADMIN)).willReturn("newBearerToken");
+        given(jwtUtil.createRefreshToken(user.getId())).willReturn("newRefreshToken");
+
+        // when
+        TokenRefreshResponse response = authService.refresh(new TokenRefreshRequest("refreshToken"));
+
+        // then
+        assertEquals("newBearerToken", response.getBearerToken());
+        assertEquals("newRefreshToken", response.getRefreshToken());
+        verify(tokenRevocationService).revokeTokenOnce("jti-1", 1L, claims.getExpiration().toInstant());
+        verify(tokenRevocationService, never()).revokeAllTokens(anyLong());
+    }
+
+    @Test
+    public void refresh_이미_사용된_토큰이면_유저의_모든_토큰을_폐기한다() {
+        // given
+        given(jwtUtil.parseRefreshToken("refreshToken")).willReturn(refreshClaims(1L, "jti-1"));
+        given(tokenRevocationService.isTokenRevoked("jti-1")).willReturn(true);
+
+        // when & then
+        AuthException exception = assertThrows(AuthException.class, () ->
+                authService.refresh(new TokenRefreshRequest("refreshToken"))
+        );
+        assertEquals("이미 사용된 refresh 토큰입니다.", exception.getMessage());
+        verify(tokenRevocationService).revokeAllTokens(1L);
+        verify(jwtUtil, never()).createToken(any(), any(), any());
+    }
+
+    @Test
+    public void refresh_다른_요청이_DB_에_먼저_기록한_토큰이면_유저의_모든_토큰을_폐기한다() {
+        // given
+        Claims claims = refreshClaims(1L, "jti-1");
+        User user = new User("test@example.com", "encodedPassword", UserRole.USER);
+
+        given(jwtUtil.parseRefreshToken("refreshToken")).willReturn(claims);
+        given(tokenRevocationService.isTokenRevoked("jti-1")).willReturn(false);
+        given(tokenRevocationService.isRevoked(eq(1L), anyLong(), eq("jti-1"))).willReturn(false);
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(tokenRevocationService.revokeTokenOnce("jti-1", 1L, claims.getExpiration().toInstant())).willReturn(false);
+
+        // when & then
+        AuthException exception = assertThrows(AuthException.class, () ->
+                authService.refresh(new TokenRefreshRequest("refreshToken"))
+        );
+        assertEquals("이미 사용된 refresh 토큰입니다.", exception.getMessage());
+        verify(tokenRevocationService).revokeAllTokens(1L);
+        verify(jwtUtil, never()).createToken(any(), any(), any());
+        verify(jwtUtil, never()).createRefreshToken(any());
+    }
+
+    private Claims refreshClaims(long userId, String jti) {
+        Date now = new Date();
+        return Jwts.claims()
+                .setSubject(String.valueOf(userId))
+                .setId(jti)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 60_000));
+    }
 }
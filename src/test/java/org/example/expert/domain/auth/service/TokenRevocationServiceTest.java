@@ -0,0 +1,97 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.auth.entity.UserTokenCutoff;
+import org.example.expert.domain.auth.repository.RevokedTokenRepository;
+import org.example.expert.domain.auth.repository.UserTokenCutoffRepository;
+import org.example.expert.domain.auth.revocation.TokenRevocationIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private UserTokenCutoffRepository userTokenCutoffRepository;
+
+    private TokenRevocationIndex tokenRevocationIndex;
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationIndex = new TokenRevocationIndex(1000);
+        tokenRevocationService = new TokenRevocationService(
+                revokedTokenRepository, userTokenCutoffRepository, tokenRevocationIndex, 1_209_600_000L, 10_000L);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void 유저_토큰_전체_폐기는_커밋된_뒤에_인덱스에_반영된다() {
+        // given
+        long issuedAt = System.currentTimeMillis() - 1;
+        given(userTokenCutoffRepository.findById(1L)).willReturn(Optional.empty());
+        given(userTokenCutoffRepository.save(any(UserTokenCutoff.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        tokenRevocationService.revokeAllTokens(1L);
+
+        // then
+        assertFalse(tokenRevocationService.isRevoked(1L, issuedAt, null));
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        assertTrue(tokenRevocationService.isRevoked(1L, issuedAt, null));
+    }
+
+    @Test
+    void 유저_토큰_전체_폐기_직후에_발급한_토큰은_폐기되지_않는다() {
+        // given
+        given(userTokenCutoffRepository.findById(1L)).willReturn(Optional.empty());
+        given(userTokenCutoffRepository.save(any(UserTokenCutoff.class))).willAnswer(invocation -> invocation.getArgument(0));
+        tokenRevocationService.revokeAllTokens(1L);
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+
+        // when
+        long issuedAt = System.currentTimeMillis();
+
+        // then
+        assertFalse(tokenRevocationService.isRevoked(1L, issuedAt, null));
+    }
+
+    @Test
+    void 토큰_하나의_폐기도_커밋된_뒤에_인덱스에_반영된다() {
+        // given
+        String jti = UUID.randomUUID().toString();
+        given(revokedTokenRepository.insertIfAbsent(anyString(), anyLong(), any(), any())).willReturn(true);
+
+        // when
+        boolean revoked = tokenRevocationService.revokeTokenOnce(jti, 1L, Instant.now().plusSeconds(60));
+
+        // then
+        assertTrue(revoked);
+        assertFalse(tokenRevocationService.isTokenRevoked(jti));
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        assertTrue(tokenRevocationService.isTokenRevoked(jti));
+    }
+}
@@ -6,10 +6,12 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.validator.TodoValidator;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
@@ -17,16 +19,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -35,6 +39,8 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private TodoValidator todoValidator;
     @InjectMocks
     private CommentService commentService;
 
@@ -43,17 +49,11 @@ class CommentServiceTest {
     public void comment_정상_조회_성공() {
         // given
         long todoId = 1;
-        User user = new User("test@naver.com","password123", UserRole.USER);
-        ReflectionTestUtils.setField(user, "id", 1L);
-        Todo todo = new Todo("title1", "content1", "Raining", user);
-        ReflectionTestUtils.setField(todo, "id", 1L);
-        List<Comment> commentList = new ArrayList<>();
-        Comment comment = new Comment("comment1", user, todo);
-        ReflectionTestUtils.setField(comment, "id", 1L);
-        commentList.add(comment);
+        List<CommentResponse> commentList = new ArrayList<>();
+        commentList.add(new CommentResponse(1L, "comment1", 1L, "test@naver.com"));
 
         // commentRepository가 todoId로 댓글 목록을 반환하도록 설정
-        given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(commentList);
+        given(commentRepository.findResponsesByTodoId(todoId)).willReturn(commentList);
 
         // when
         List<CommentResponse> result = commentService.getComments(todoId);
@@ -73,7 +73,7 @@ class CommentServiceTest {
         CommentSaveRequest request = new CommentSaveRequest("contents");
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
+        willThrow(new InvalidRequestException("Todo not found")).given(todoValidator).validateExists(anyLong());
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -94,7 +94,7 @@ class CommentServiceTest {
         Todo todo = new Todo("title", "title", "contents", user);
         Comment comment = new Comment(request.getContents(), user, todo);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.getReferenceById(anyLong())).willReturn(todo);
         given(commentRepository.save(any())).willReturn(comment);
 
         // when
@@ -103,4 +103,51 @@ class CommentServiceTest {
         // then
         assertNotNull(result);
     }
+
+    @Test
+    public void comment_커서_조회_시_다음_커서를_반환한다() {
+        // given
+        long todoId = 1L;
+        List<CommentResponse> comments = List.of(
+                new CommentResponse(11L, "comment11", 1L, "test@naver.com"),
+                new CommentResponse(12L, "comment12", 1L, "test@naver.com"),
+                new CommentResponse(13L, "comment13", 2L, "other@naver.com")
+        );
+        given(commentRepository.findPageByTodoIdAfter(todoId, 10L, Limit.of(3))).willReturn(comments);
+
+        // when
+        CursorResponse<CommentResponse> result = commentService.getCommentsByCursor(todoId, 10L, 2);
+
+        // then
+        assertTrue(result.isHasNext());
+        assertEquals(2, result.getContents().size());
+        assertEquals("12", result.getNextCursor());
+        assertEquals("test@naver.com", result.getContents().get(0).getUser().getEmail());
+    }
+
+    @Test
+    public void comment_커서_조회_시_size가_100을_넘으면_예외를_던진다() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                commentService.getCommentsByCursor(1L, null, 101)
+        );
+        assertEquals("size는 1 이상 100 이하여야 합니다.", exception.getMessage());
+    }
+
+    @Test
+    public void comment_스트림_조회_시_한_건씩_전달한다() {
+        // given
+        long todoId = 1L;
+        given(commentRepository.streamByTodoId(todoId)).willReturn(Stream.of(
+                new CommentResponse(1L, "comment1", 1L, "test@naver.com"),
+                new CommentResponse(2L, "comment2", 1L, "test@naver.com")
+        ));
+        List<Long> received = new ArrayList<>();
+
+        // when
+        commentService.streamComments(todoId, comment -> received.add(comment.getId()));
+
+        // then
+        assertEquals(List.of(1L, 2L), received);
+    }
 }
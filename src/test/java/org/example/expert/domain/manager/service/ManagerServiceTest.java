@@ -2,13 +2,16 @@ package org.example.expert.domain.manager.service;
 
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
-import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.validator.TodoValidator;
+import org.example.expert.domain.user.cache.UserSummaryCache;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -24,7 +27,9 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 
 @ExtendWith(MockitoExtension.class)
 class ManagerServiceTest {
@@ -34,7 +39,9 @@ class ManagerServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private TodoRepository todoRepository;
+    private TodoValidator todoValidator;
+    @Mock
+    private UserSummaryCache userSummaryCache;
     @InjectMocks
     private ManagerService managerService;
 
@@ -51,8 +58,8 @@ class ManagerServiceTest {
 
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(userRepository.findById(managerUserId)).willReturn(Optional.of(User.fromAuthUser(authUser)));
+        given(todoValidator.getExistingTodo(todoId)).willReturn(todo);
+        given(userSummaryCache.get(managerUserId)).willReturn(Optional.of(new UserResponse(1L, "test1@naver.com")));
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -75,8 +82,8 @@ class ManagerServiceTest {
 
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(userRepository.findById(managerUserId)).willReturn(Optional.empty());
+        given(todoValidator.getExistingTodo(todoId)).willReturn(todo);
+        given(userSummaryCache.get(managerUserId)).willReturn(Optional.empty());
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -103,8 +110,8 @@ class ManagerServiceTest {
 
         Manager manager = new Manager(new User(), todo);
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(userSummaryCache.get(userId)).willReturn(Optional.of(new UserResponse(userId, user.getEmail())));
+        given(todoValidator.getExistingTodo(todoId)).willReturn(todo);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -131,8 +138,8 @@ class ManagerServiceTest {
 
         Manager manager = new Manager(new User(), new Todo());
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(userSummaryCache.get(userId)).willReturn(Optional.of(new UserResponse(userId, user.getEmail())));
+        given(todoValidator.getExistingTodo(todoId)).willReturn(todo);
         given(managerRepository.findById(managerId)).willReturn(Optional.of(manager));
 
         // when & then
@@ -148,7 +155,7 @@ class ManagerServiceTest {
     public void manager_목록_조회_시_Todo가_없다면_InvalidRequestException_에러를_던진다() {
         // given
         long todoId = 1L;
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        willThrow(new InvalidRequestException("Todo not found")).given(todoValidator).validateExists(todoId);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(todoId));
@@ -167,7 +174,7 @@ class ManagerServiceTest {
 
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(todoValidator.getExistingTodo(todoId)).willReturn(todo);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -185,19 +192,18 @@ class ManagerServiceTest {
         Todo todo = new Todo("Title", "Contents", "Sunny", user);
         ReflectionTestUtils.setField(todo, "id", todoId);
 
-        Manager mockManager = new Manager(todo.getUser(), todo);
-        List<Manager> managerList = List.of(mockManager);
+        ManagerResponse managerResponse = new ManagerResponse(1L, user.getId(), user.getEmail());
+        List<ManagerResponse> managerList = List.of(managerResponse);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(managerList);
 
         // when
         List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
 
         // then
         assertEquals(1, managerResponses.size());
-        assertEquals(mockManager.getId(), managerResponses.get(0).getId());
-        assertEquals(mockManager.getUser().getEmail(), managerResponses.get(0).getUser().getEmail());
+        assertEquals(managerResponse.getId(), managerResponses.get(0).getId());
+        assertEquals(user.getEmail(), managerResponses.get(0).getUser().getEmail());
     }
 
     @Test // 테스트코드 샘플
@@ -215,8 +221,9 @@ class ManagerServiceTest {
 
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+        given(todoValidator.getExistingTodo(todoId)).willReturn(todo);
+        given(userSummaryCache.get(managerUserId)).willReturn(Optional.of(new UserResponse(managerUserId, managerUser.getEmail())));
+        given(userRepository.getReferenceById(managerUserId)).willReturn(managerUser);
         given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -227,4 +234,71 @@ class ManagerServiceTest {
         assertEquals(managerUser.getId(), response.getUser().getId());
         assertEquals(managerUser.getEmail(), response.getUser().getEmail());
     }
+
+    @Test
+    void 담당자를_한_번에_여러_명_등록한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", User.fromAuthUser(authUser));
+
+        User managerUser2 = new User("b@b.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(managerUser2, "id", 2L);
+        User managerUser3 = new User("c@c.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(managerUser3, "id", 3L);
+
+        ManagerBulkSaveRequest request = new ManagerBulkSaveRequest(List.of(2L, 3L, 2L));
+
+        given(todoValidator.getExistingTodo(todoId)).willReturn(todo);
+        given(userRepository.findResponsesByIdIn(any())).willReturn(List.of(
+                new UserResponse(2L, "b@b.com"),
+                new UserResponse(3L, "c@c.com")
+        ));
+        given(userRepository.getReferenceById(2L)).willReturn(managerUser2);
+        given(userRepository.getReferenceById(3L)).willReturn(managerUser3);
+        given(managerRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<ManagerSaveResponse> responses = managerService.saveManagers(authUser, todoId, request);
+
+        // then
+        assertEquals(2, responses.size());
+        assertEquals("b@b.com", responses.get(0).getUser().getEmail());
+        assertEquals("c@c.com", responses.get(1).getUser().getEmail());
+    }
+
+    @Test
+    void 담당자_일괄_등록_시_존재하지_않는_유저가_있으면_예외가_발생한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", User.fromAuthUser(authUser));
+        ManagerBulkSaveRequest request = new ManagerBulkSaveRequest(List.of(2L, 3L));
+
+        given(todoValidator.getExistingTodo(todoId)).willReturn(todo);
+        given(userRepository.findResponsesByIdIn(any())).willReturn(List.of(new UserResponse(2L, "b@b.com")));
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.saveManagers(authUser, todoId, request)
+        );
+        assertEquals("등록하려고 하는 담당자 유저가 존재하지 않습니다. id: [3]", exception.getMessage());
+    }
+
+    @Test
+    void 담당자_일괄_등록_시_본인이_포함되면_예외가_발생한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", User.fromAuthUser(authUser));
+        ManagerBulkSaveRequest request = new ManagerBulkSaveRequest(List.of(1L, 2L));
+
+        given(todoValidator.getExistingTodo(todoId)).willReturn(todo);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.saveManagers(authUser, todoId, request)
+        );
+        assertEquals("일정 작성자는 본인을 담당자로 등록할 수 없습니다.", exception.getMessage());
+    }
 }
@@ -0,0 +1,96 @@
+package org.example.expert.domain.todo.controller;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.SqlRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 일정 단건의 조건부 GET 을 실제 컨텍스트(H2 + Flyway)에서 검사합니다.
+// 조회 API 는 인증 정보를 쓰지 않으므로 JWT 필터 없이 호출하고, 일정은 TodoService 의 쓰기 경로로 만들고 지웁니다.
+@SpringBootTest(properties = {
+        "jwt.secret.key=c2VjcmV0LWtleS1mb3ItY29uZGl0aW9uYWwtZ2V0LXRlc3Qtb25seS0xMjM0NTY3OA==",
+        SqlRecorder.PROPERTY
+})
+@AutoConfigureMockMvc(addFilters = false)
+class TodoControllerConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void 일정이_바뀌지_않았으면_probe_쿼리_한_번으로_304_를_반환한다() throws Exception {
+        // given
+        AuthUser authUser = saveUser();
+        long todoId = todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents")).getId();
+        String eTag = mockMvc.perform(get("/todos/{todoId}", todoId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+
+        // when
+        SqlRecorder.start();
+        mockMvc.perform(get("/todos/{todoId}", todoId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        List<String> statements = SqlRecorder.stop();
+
+        // then
+        assertEquals(1, statements.size(), "실행된 SQL: " + statements);
+        assertFalse(statements.get(0).contains("contents"), statements.get(0));
+    }
+
+    @Test
+    void 일정이_삭제되면_이전_ETag_로_304_를_받지_않는다() throws Exception {
+        // given
+        AuthUser authUser = saveUser();
+        long todoId = todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents")).getId();
+        String eTag = mockMvc.perform(get("/todos/{todoId}", todoId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        todoService.deleteTodo(authUser, todoId);
+
+        // then
+        mockMvc.perform(get("/todos/{todoId}", todoId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 일정_목록은_검증자를_내려주지_않는다() throws Exception {
+        // given
+        AuthUser authUser = saveUser();
+        todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents"));
+
+        // when & then
+        mockMvc.perform(get("/todos"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+    }
+
+    private AuthUser saveUser() {
+        User user = userRepository.save(new User(UUID.randomUUID() + "@a.com", "password", UserRole.USER));
+        return new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+    }
+}
@@ -1,32 +1,49 @@
 package org.example.expert.domain.todo.service;
 
-import org.example.expert.client.WeatherClient;
+import org.example.expert.client.WeatherProvider;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.validator.TodoValidator;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class TodoServiceTest {
@@ -35,7 +52,19 @@ public class TodoServiceTest {
     private TodoRepository todoRepository;
 
     @Mock
-    private WeatherClient weatherClient;
+    private WeatherProvider weatherProvider;
+
+    @Mock
+    private TodoCountProvider todoCountProvider;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ManagerRepository managerRepository;
+
+    @Mock
+    private TodoValidator todoValidator;
 
     @InjectMocks
     private TodoService todoService;
@@ -50,7 +79,7 @@ public class TodoServiceTest {
         String weather = "Sunny";
         Todo savedTodo = new Todo("Title", "Contents", weather, user);
         ReflectionTestUtils.setField(savedTodo, "id", 1L);
-        given(weatherClient.getTodayWeather()).willReturn(weather);
+        given(weatherProvider.getTodayWeather()).willReturn(weather);
         given(todoRepository.save(any(Todo.class))).willReturn(savedTodo);
 
         // when
@@ -65,19 +94,17 @@ public class TodoServiceTest {
         assertEquals("Sunny", response.getWeather());
         assertEquals(1L, response.getUser().getId());
         assertEquals("user@example.com", response.getUser().getEmail());
+        verify(todoValidator).invalidate(1L);
     }
 
     @Test
     public void todo_목록_조회에_성공한다() {
         // given
-        User user = new User("user@example.com", "password", UserRole.USER);
-        ReflectionTestUtils.setField(user, "id", 1L);
-        Todo todo = new Todo("Title", "Contents", "Sunny", user);
-        ReflectionTestUtils.setField(todo, "id", 1L);
+        TodoResponse todoResponse = new TodoResponse(1L, "Title", "Contents", "Sunny", 1L, "user@example.com", null, null);
 
-        Page<Todo> todoPage = new PageImpl<>(Collections.singletonList(todo), PageRequest.of(0, 10), 1);
+        Page<TodoResponse> todoPage = new PageImpl<>(Collections.singletonList(todoResponse), PageRequest.of(0, 10), 1);
 
-        given(todoRepository.findAllByOrderByModifiedAtDesc(any(Pageable.class))).willReturn(todoPage);
+        given(todoRepository.findTodoResponses(any(Pageable.class))).willReturn(todoPage);
 
         // when
         Page<TodoResponse> responsePage = todoService.getTodos(1, 10);
@@ -91,11 +118,33 @@ public class TodoServiceTest {
         assertEquals("Sunny", responsePage.getContent().get(0).getWeather());
     }
 
+    @Test
+    public void todo_슬라이스_조회_시_COUNT_없이_다음_페이지_여부를_반환한다() {
+        // given
+        User user = new User("user@example.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Todo todo = new Todo("Title", "Contents", "Sunny", user);
+        ReflectionTestUtils.setField(todo, "id", 1L);
+
+        given(todoRepository.findSliceByOrderByModifiedAtDesc(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(todo), PageRequest.of(0, 1), true));
+        given(todoCountProvider.getApproximateTotal()).willReturn(42L);
+
+        // when
+        SliceResponse<TodoResponse> response = todoService.getTodoSlice(1, 1, true);
+
+        // then
+        assertTrue(response.isHasNext());
+        assertEquals(1, response.getContents().size());
+        assertEquals(1L, response.getContents().get(0).getId());
+        assertEquals(42L, response.getApproximateTotalElements());
+    }
+
     @Test
     public void getTodo_존재하지_않는_Todo_조회_예외를_던진다() {
         // given
         long todoId = 1L;
-        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.empty());
+        given(todoRepository.findTodoResponseById(todoId)).willReturn(Optional.empty());
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -108,12 +157,9 @@ public class TodoServiceTest {
     public void getTodo_성공_응답을_반환한다() {
         // given
         long todoId = 1L;
-        User user = new User("user@example.com", "password", UserRole.USER);
-        ReflectionTestUtils.setField(user, "id", 1L);
-        Todo todo = new Todo("Title", "Contents", "Sunny", user);
-        ReflectionTestUtils.setField(todo, "id", 1L);
+        TodoResponse todoResponse = new TodoResponse(1L, "Title", "Contents", "Sunny", 1L, "user@example.com", null, null);
 
-        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.of(todo));
+        given(todoRepository.findTodoResponseById(todoId)).willReturn(Optional.of(todoResponse));
 
         // when
         TodoResponse response = todoService.getTodo(todoId);
@@ -127,4 +173,141 @@ public class TodoServiceTest {
         assertEquals(1L, response.getUser().getId());
         assertEquals("user@example.com", response.getUser().getEmail());
     }
+
+    @Test
+    public void todo_커서_목록_조회_시_다음_커서를_반환한다() {
+        // given
+        User user = new User("user@example.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 9, 1, 12, 0);
+        Todo first = new Todo("Title1", "Contents1", "Sunny", user);
+        ReflectionTestUtils.setField(first, "id", 2L);
+        ReflectionTestUtils.setField(first, "modifiedAt", modifiedAt);
+        Todo second = new Todo("Title2", "Contents2", "Sunny", user);
+        ReflectionTestUtils.setField(second, "id", 1L);
+        ReflectionTestUtils.setField(second, "modifiedAt", modifiedAt);
+
+        given(todoRepository.findFirstPageByCursor(Limit.of(2))).willReturn(List.of(first, second));
+
+        // when
+        CursorResponse<TodoResponse> response = todoService.getTodosByCursor(null, 1);
+
+        // then
+        assertTrue(response.isHasNext());
+        assertEquals(1, response.getContents().size());
+        assertEquals(2L, response.getContents().get(0).getId());
+        TodoCursor nextCursor = TodoCursor.decode(response.getNextCursor());
+        assertEquals(modifiedAt, nextCursor.getModifiedAt());
+        assertEquals(2L, nextCursor.getId());
+    }
+
+    @Test
+    public void todo_커서_목록_조회_시_커서_이후부터_조회한다() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 9, 1, 12, 0);
+        String cursor = new TodoCursor(modifiedAt, 2L).encode();
+
+        given(todoRepository.findNextPageByCursor(eq(modifiedAt), eq(2L), any(Limit.class))).willReturn(List.of());
+
+        // when
+        CursorResponse<TodoResponse> response = todoService.getTodosByCursor(cursor, 10);
+
+        // then
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+        assertTrue(response.getContents().isEmpty());
+    }
+
+    @Test
+    public void todo_커서_목록_조회_시_잘못된_커서는_예외를_던진다() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                todoService.getTodosByCursor("not-a-cursor", 10)
+        );
+        assertEquals("잘못된 커서입니다.", exception.getMessage());
+    }
+
+    @Test
+    public void todo_커서_목록_조회_시_size가_100을_넘으면_예외를_던진다() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                todoService.getTodosByCursor(null, 101)
+        );
+        assertEquals("size는 1 이상 100 이하여야 합니다.", exception.getMessage());
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void deleteTodo_댓글과_담당자를_벌크_삭제한_뒤_일정을_삭제한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        given(todoRepository.findUserIdById(10L)).willReturn(Optional.of(1L));
+
+        // when
+        todoService.deleteTodo(authUser, 10L);
+
+        // then
+        InOrder inOrder = inOrder(commentRepository, managerRepository, todoRepository);
+        inOrder.verify(commentRepository).deleteAllByTodoIdInBulk(10L);
+        inOrder.verify(managerRepository).deleteAllByTodoIdInBulk(10L);
+        inOrder.verify(todoRepository).deleteByIdInBulk(10L);
+    }
+
+    @Test
+    void deleteTodo_일정이_없으면_예외가_발생한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        given(todoRepository.findUserIdById(10L)).willReturn(Optional.empty());
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                todoService.deleteTodo(authUser, 10L)
+        );
+        assertEquals("Todo not found", exception.getMessage());
+    }
+
+    @Test
+    void deleteTodo_작성자가_아니면_예외가_발생한다() {
+        // given
+        AuthUser authUser = new AuthUser(2L, "b@b.com", UserRole.USER);
+        given(todoRepository.findUserIdById(10L)).willReturn(Optional.of(1L));
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                todoService.deleteTodo(authUser, 10L)
+        );
+        assertEquals("일정을 만든 유저만 삭제할 수 있습니다.", exception.getMessage());
+        verify(commentRepository, never()).deleteAllByTodoIdInBulk(10L);
+        verify(todoRepository, never()).deleteByIdInBulk(10L);
+    }
+
+    @Test
+    void getTodoVersion_수정되면_ETag가_바뀐다() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_000);
+        given(todoRepository.findModifiedAtById(1L))
+                .willReturn(Optional.of(modifiedAt))
+                .willReturn(Optional.of(modifiedAt))
+                .willReturn(Optional.of(modifiedAt.plusNanos(1_000)));
+
+        // when
+        TodoVersion first = todoService.getTodoVersion(1L);
+        TodoVersion unchanged = todoService.getTodoVersion(1L);
+        TodoVersion modified = todoService.getTodoVersion(1L);
+
+        // then
+        assertEquals(first.getETag(), unchanged.getETag());
+        assertNotEquals(first.getETag(), modified.getETag());
+        assertTrue(first.getETag().startsWith("\""));
+        assertTrue(first.getLastModified() > 0);
+    }
+
+    @Test
+    void getTodoVersion_일정이_없으면_예외가_발생한다() {
+        // given
+        given(todoRepository.findModifiedAtById(1L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodoVersion(1L));
+    }
 }
@@ -0,0 +1,95 @@
+package org.example.expert.domain.todo.validator;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoValidatorTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private Cache secondLevelCache;
+
+    private TodoValidator todoValidator;
+
+    @BeforeEach
+    void setUp() {
+        todoValidator = new TodoValidator(todoRepository, entityManagerFactory, 100, 60_000);
+    }
+
+    @Test
+    void 없는_일정으로_확인된_id는_DB를_조회하지_않고_거절한다() {
+        // given
+        given(entityManagerFactory.getCache()).willReturn(secondLevelCache);
+        given(todoRepository.existsTodoById(1L)).willReturn(false);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> todoValidator.validateExists(1L));
+            assertEquals("Todo not found", exception.getMessage());
+        }
+
+        // then
+        verify(todoRepository, times(1)).existsTodoById(1L);
+        assertEquals(2, todoValidator.getRejectedCount());
+    }
+
+    @Test
+    void 엔티티_조회에서_없다고_확인된_id도_다음_요청부터_거절한다() {
+        // given
+        given(todoRepository.findById(1L)).willReturn(Optional.empty());
+        assertThrows(InvalidRequestException.class, () -> todoValidator.getExistingTodo(1L));
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> todoValidator.validateExists(1L));
+        verify(todoRepository, never()).existsTodoById(1L);
+    }
+
+    @Test
+    void 이차_캐시에_있는_일정은_DB를_조회하지_않는다() {
+        // given
+        given(entityManagerFactory.getCache()).willReturn(secondLevelCache);
+        given(secondLevelCache.contains(Todo.class, 1L)).willReturn(true);
+
+        // when
+        todoValidator.validateExists(1L);
+
+        // then
+        verify(todoRepository, never()).existsTodoById(1L);
+    }
+
+    @Test
+    void 무효화하면_다음_요청에서_다시_확인한다() {
+        // given
+        given(entityManagerFactory.getCache()).willReturn(secondLevelCache);
+        given(todoRepository.existsTodoById(1L)).willReturn(false).willReturn(true);
+        assertThrows(InvalidRequestException.class, () -> todoValidator.validateExists(1L));
+
+        // when
+        todoValidator.invalidate(1L);
+
+        // then
+        assertDoesNotThrow(() -> todoValidator.validateExists(1L));
+        verify(todoRepository, times(2)).existsTodoById(1L);
+    }
+}
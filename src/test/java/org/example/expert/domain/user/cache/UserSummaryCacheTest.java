@@ -0,0 +1,93 @@
+package org.example.expert.domain.user.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserSummaryCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserSummaryCache userSummaryCache;
+
+    @BeforeEach
+    void setUp() {
+        userSummaryCache = new UserSummaryCache(userRepository, 100, 60_000);
+    }
+
+    @Test
+    void 두_번째_조회부터는_DB를_조회하지_않는다() {
+        // given
+        given(userRepository.findResponseById(1L)).willReturn(Optional.of(new UserResponse(1L, "a@a.com")));
+
+        // when
+        userSummaryCache.get(1L);
+        Optional<UserResponse> cached = userSummaryCache.get(1L);
+
+        // then
+        assertEquals("a@a.com", cached.orElseThrow().getEmail());
+        verify(userRepository, times(1)).findResponseById(1L);
+        assertEquals(1, userSummaryCache.getHitCount());
+        assertEquals(1, userSummaryCache.getMissCount());
+    }
+
+    @Test
+    void 존재하지_않는_유저는_캐시하지_않는다() {
+        // given
+        given(userRepository.findResponseById(1L))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(new UserResponse(1L, "a@a.com")));
+
+        // when
+        Optional<UserResponse> missing = userSummaryCache.get(1L);
+        Optional<UserResponse> found = userSummaryCache.get(1L);
+
+        // then
+        assertTrue(missing.isEmpty());
+        assertTrue(found.isPresent());
+    }
+
+    @Test
+    void 무효화하면_다음_조회에서_다시_읽는다() {
+        // given
+        given(userRepository.findResponseById(1L)).willReturn(Optional.of(new UserResponse(1L, "a@a.com")));
+        userSummaryCache.get(1L);
+
+        // when
+        userSummaryCache.invalidate(1L);
+        userSummaryCache.get(1L);
+
+        // then
+        verify(userRepository, times(2)).findResponseById(1L);
+    }
+
+    @Test
+    void 캐시_메트릭을_노출한다() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        userSummaryCache.bindTo(meterRegistry);
+        given(userRepository.findResponseById(1L)).willReturn(Optional.of(new UserResponse(1L, "a@a.com")));
+
+        // when
+        userSummaryCache.get(1L);
+        userSummaryCache.get(1L);
+
+        // then
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "user.summary").tag("result", "hit")
+                .functionCounter().count());
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.user.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserRoleTest {
+
+    @Test
+    void 대소문자와_관계없이_UserRole을_찾는다() {
+        assertEquals(UserRole.ADMIN, UserRole.of("ADMIN"));
+        assertEquals(UserRole.ADMIN, UserRole.of("admin"));
+        assertEquals(UserRole.USER, UserRole.of("User"));
+    }
+
+    @Test
+    void 없는_UserRole이면_예외가_발생한다() {
+        assertThrows(InvalidRequestException.class, () -> UserRole.of("MANAGER"));
+        assertThrows(InvalidRequestException.class, () -> UserRole.of(null));
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.expert.domain.user.service;
 
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.cache.UserSummaryCache;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -24,6 +26,12 @@ public class UserAdminServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserSummaryCache userSummaryCache;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @InjectMocks
     private UserAdminService userAdminService;
 
@@ -44,6 +52,8 @@ public class UserAdminServiceTest {
 
         // then
         assertEquals(UserRole.ADMIN, user.getUserRole());
+        verify(userSummaryCache).invalidate(1L);
+        verify(tokenRevocationService).revokeAllTokens(1L);
     }
 
     @Test
@@ -1,7 +1,9 @@
 package org.example.expert.domain.user.service;
 
-import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.config.AsyncPasswordEncoder;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.cache.UserSummaryCache;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -10,10 +12,14 @@ import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
@@ -27,7 +33,16 @@ public class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private AsyncPasswordEncoder asyncPasswordEncoder;
+
+    @Mock
+    private UserSummaryCache userSummaryCache;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
 
     @InjectMocks
     private UserService userService;
@@ -44,7 +59,7 @@ public class UserServiceTest {
     @Test
     public void getUser_성공_유저정보_반환() {
         // given
-        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(userSummaryCache.get(1L)).willReturn(Optional.of(new UserResponse(1L, "user@example.com")));
 
         // when
         UserResponse response = userService.getUser(1L);
@@ -58,7 +73,7 @@ public class UserServiceTest {
     @Test
     public void getUser_실패_존재하지_않는_유저() {
         // given
-        given(userRepository.findById(1L)).willReturn(Optional.empty());
+        given(userSummaryCache.get(1L)).willReturn(Optional.empty());
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -72,15 +87,40 @@ public class UserServiceTest {
         // given
         UserChangePasswordRequest request = new UserChangePasswordRequest("2573758Aa", "new2573758Aa");
         given(userRepository.findById(1L)).willReturn(Optional.of(user));
-        given(passwordEncoder.matches(request.getOldPassword(), user.getPassword())).willReturn(true);
-        given(passwordEncoder.matches(request.getNewPassword(), user.getPassword())).willReturn(false);
-        given(passwordEncoder.encode(request.getNewPassword())).willReturn("new2573758Aa");
+        given(asyncPasswordEncoder.matches(request.getOldPassword(), user.getPassword())).willReturn(true);
+        given(asyncPasswordEncoder.matches(request.getNewPassword(), user.getPassword())).willReturn(false);
+        given(asyncPasswordEncoder.encode(request.getNewPassword())).willReturn("new2573758Aa");
 
         // when
         userService.changePassword(1L, request);
 
         // then
         assertEquals("new2573758Aa", user.getPassword());
+        verify(userSummaryCache).invalidate(1L);
+        verify(tokenRevocationService).revokeAllTokens(1L);
+        // 해싱이 끝난 뒤에야 쓰기 트랜잭션을 엽니다.
+        InOrder inOrder = inOrder(asyncPasswordEncoder, transactionTemplate);
+        inOrder.verify(asyncPasswordEncoder).encode(request.getNewPassword());
+        inOrder.verify(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    public void changePassword_실패_해싱하는_사이에_비밀번호가_바뀜() {
+        // given
+        UserChangePasswordRequest request = new UserChangePasswordRequest("2573758Aa", "new2573758Aa");
+        User changed = new User("user@example.com", "changed2573758Aa", UserRole.USER);
+        given(userRepository.findById(1L)).willReturn(Optional.of(user), Optional.of(changed));
+        given(asyncPasswordEncoder.matches(request.getOldPassword(), user.getPassword())).willReturn(true);
+        given(asyncPasswordEncoder.matches(request.getNewPassword(), user.getPassword())).willReturn(false);
+        given(asyncPasswordEncoder.encode(request.getNewPassword())).willReturn("new2573758Aa");
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                userService.changePassword(1L, request)
+        );
+        assertEquals("잘못된 비밀번호입니다.", exception.getMessage());
+        assertEquals("changed2573758Aa", changed.getPassword());
+        verify(tokenRevocationService, never()).revokeAllTokens(anyLong());
     }
 
     @Test
@@ -0,0 +1,35 @@
+package org.example.expert.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Hibernate 가 실행하는 SQL 을 현재 스레드에서 start() ~ stop() 사이에만 모읍니다.
+// spring.jpa.properties.hibernate.session_factory.statement_inspector 에 이 클래스 이름을 지정해 사용합니다.
+public class SqlRecorder implements StatementInspector {
+
+    public static final String PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.example.expert.support.SqlRecorder";
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    public static void start() {
+        RECORDED.set(new ArrayList<>());
+    }
+
+    public static List<String> stop() {
+        List<String> statements = RECORDED.get();
+        RECORDED.remove();
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = RECORDED.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}